@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,6 +24,8 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -38,6 +41,58 @@ with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// run tasks
+// 가상 스레드 모드: ./gradlew bootRun -PvirtualThreads (JDK 21 toolchain 으로 실행, 바이트코드는 17 그대로)
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    if (project.hasProperty("virtualThreads")) {
+        javaLauncher.set(javaToolchains.launcherFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+        args("--spring.profiles.active=virtual-threads")
+    }
+}
+
+// benchmark tasks
+// ./gradlew jmh : src/jmh 의 벤치마크 실행, 결과는 build/results/jmh/results.json
+// ./gradlew jmh -PjmhIncludes=PointServiceBenchmark -PjmhLatency=FIXED : 일부만, 테이블 지연을 바꿔서 실행
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    jvmArgs.set(listOf("-Xmx2g"))
+    project.findProperty("jmhIncludes")?.let { includes.set(listOf(it.toString())) }
+    project.findProperty("jmhLatency")?.let {
+        benchmarkParameters.put("latency", project.objects.listProperty<String>().value(listOf(it.toString())))
+    }
+}
+
+// ./gradlew storeFootprint -PuserCount=1000000 : 유저 포인트 저장소별 유저당 메모리 사용량
+tasks.register<JavaExec>("storeFootprint") {
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.store.UserPointStoreFootprint")
+    jvmArgs("-Xmx4g")
+    args(project.findProperty("userCount")?.toString() ?: "1000000")
+}
+
+// ./gradlew historyFootprint -PhistoryCount=1000000 : 히스토리 저장소별 히스토리 한 건당 메모리 사용량
+tasks.register<JavaExec>("historyFootprint") {
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.history.PointHistoryStoreFootprint")
+    jvmArgs("-Xmx4g")
+    args(project.findProperty("historyCount")?.toString() ?: "1000000")
+}
+
+// ./gradlew loadTest -Pload.concurrency=64 -Pload.zipf-exponent=1.2 -Ppoint.engine.mode=cas : 실제 앱을 띄워 HTTP 부하 + 정합성 확인
+// 결과는 build/results/load/report.json (-Pload.report 로 변경), 정합성이 깨지면 실패
+tasks.register<JavaExec>("loadTest") {
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.PointLoadTest")
+    jvmArgs("-Xmx2g")
+    args(project.properties
+        .filterKeys { it.startsWith("load.") || it.startsWith("point.") || it.startsWith("spring.") }
+        .map { (key, value) -> "--$key=$value" })
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -0,0 +1,107 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 테이블
+ * - 원래 테이블 클래스는 변경하지 않고, 같은 동작에 지연 방식만 바꿀 수 있는 하위 클래스를 사용
+ * - 여러 스레드가 동시에 호출하므로 내부 저장소는 동시성을 보장하는 자료구조 사용
+ */
+public final class BenchmarkTables {
+
+    private BenchmarkTables() {
+    }
+
+    public static UserPointTable userPointTable(Latency latency) {
+        return new LatencyUserPointTable(latency);
+    }
+
+    public static PointHistoryTable pointHistoryTable(Latency latency) {
+        return new LatencyPointHistoryTable(latency);
+    }
+
+    // 지연 없이 포인트를 미리 채움 (원래 UserPointTable 이면 내부 HashMap 에 직접)
+    @SuppressWarnings("unchecked")
+    public static void seed(UserPointTable userPointTable, long id, long point) {
+        UserPoint userPoint = new UserPoint(id, point, System.currentTimeMillis());
+        if (userPointTable instanceof LatencyUserPointTable latencyUserPointTable) {
+            latencyUserPointTable.table.put(id, userPoint);
+            return;
+        }
+
+        try {
+            Field field = UserPointTable.class.getDeclaredField("table");
+            field.setAccessible(true);
+            ((Map<Long, UserPoint>) field.get(userPointTable)).put(id, userPoint);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 원래 PointHistoryTable 에 insert 의 지연 없이 히스토리를 미리 채움
+    @SuppressWarnings("unchecked")
+    public static void seed(PointHistoryTable pointHistoryTable, List<PointHistory> histories) {
+        try {
+            Field field = PointHistoryTable.class.getDeclaredField("table");
+            field.setAccessible(true);
+            ((List<PointHistory>) field.get(pointHistoryTable)).addAll(histories);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class LatencyUserPointTable extends UserPointTable {
+
+        private final Latency latency;
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        LatencyUserPointTable(Latency latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            latency.pause(200);
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            latency.pause(300);
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    private static final class LatencyPointHistoryTable extends PointHistoryTable {
+
+        private final Latency latency;
+        private final List<PointHistory> table = new ArrayList<>();
+        private long cursor = 1;
+
+        LatencyPointHistoryTable(Latency latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            latency.pause(300);
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public synchronized List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤치마크용 테이블 지연 방식
+ * - RANDOM : 원래 테이블과 같이 0 ~ max 사이 무작위 (결과가 흔들림)
+ * - FIXED : 원래 테이블의 평균값(max / 2) 으로 고정
+ * - ZERO : 지연 없음 (저장소를 뺀 코드 자체의 비용만 측정)
+ */
+public enum Latency {
+    RANDOM, FIXED, ZERO;
+
+    void pause(long maxMillis) {
+        long millis = switch (this) {
+            case RANDOM -> (long) (Math.random() * maxMillis);
+            case FIXED -> maxMillis / 2;
+            case ZERO -> 0L;
+        };
+        if (millis == 0L) {
+            return;
+        }
+
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
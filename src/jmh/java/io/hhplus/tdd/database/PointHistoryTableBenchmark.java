@@ -0,0 +1,102 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.TieredPointHistoryProperties;
+import io.hhplus.tdd.point.history.TieredPointHistoryStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 전체 히스토리 크기에 따른 유저별 히스토리 조회 비용
+ * - table : 원래 PointHistoryTable.selectAllByUserId (전체 목록을 훑음)
+ * - index : PointHistoryIndex (해당 유저 항목만 복사)
+ * - columnar : ColumnarPointHistoryStore (해당 유저 chunk 만 디코딩)
+ * - tiered : TieredPointHistoryStore (해당 유저의 세그먼트 블록을 mmap 에서 디코딩 + 최근 히스토리)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointHistoryTableBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int historySize;
+
+    @Param({"1000"})
+    public int userCount;
+
+    private PointHistoryTable pointHistoryTable;
+    private PointHistoryIndex pointHistoryIndex;
+    private ColumnarPointHistoryStore columnarPointHistoryStore;
+    private TieredPointHistoryStore tieredPointHistoryStore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pointHistoryTable = new PointHistoryTable();
+        pointHistoryIndex = new PointHistoryIndex();
+        columnarPointHistoryStore = new ColumnarPointHistoryStore();
+        tieredPointHistoryStore = new TieredPointHistoryStore(new TieredPointHistoryProperties(
+            Files.createTempDirectory("history-benchmark").toString(), 128, 64 << 20));
+
+        List<PointHistory> histories = new ArrayList<>(historySize);
+        for (long i = 1; i <= historySize; i++) {
+            PointHistory pointHistory = new PointHistory(i, i % userCount + 1, 100L, TransactionType.CHARGE, i);
+            histories.add(pointHistory);
+            pointHistoryIndex.append(pointHistory);
+            columnarPointHistoryStore.append(pointHistory);
+            tieredPointHistoryStore.append(pointHistory);
+        }
+        BenchmarkTables.seed(pointHistoryTable, histories);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        tieredPointHistoryStore.close();
+    }
+
+    @Benchmark
+    public List<PointHistory> table() {
+        return pointHistoryTable.selectAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> index() {
+        return pointHistoryIndex.findAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> columnar() {
+        return columnarPointHistoryStore.findAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> tiered() {
+        return tieredPointHistoryStore.findAllByUserId(randomUserId());
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+}
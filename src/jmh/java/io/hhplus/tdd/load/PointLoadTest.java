@@ -0,0 +1,317 @@
+package io.hhplus.tdd.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * 실제 앱을 띄우고 HTTP 로 부하를 건 뒤 정합성을 확인하는 부하 테스트
+ * - 목 없이 TddApplication 을 그대로 띄움 (기본값은 UserPointTable, PointHistoryTable 그대로, 저널은 임시 디렉터리)
+ * - concurrency 개의 스레드가 각자 응답을 받으면 바로 다음 요청을 보냄 (closed loop)
+ *   - 유저는 Zipf 분포 (load.zipf-exponent, 0 이면 균등), 요청 종류는 load.mix (charge:use:read 비율)
+ * - 엔드포인트별 응답 시간을 HdrHistogram 에 기록 (warmup 동안의 기록은 버림)
+ * - 끝나면 요청한 유저마다 확인
+ *   - 포인트 == 그 유저 히스토리의 충전 합 - 사용 합
+ *   - 포인트 == 클라이언트가 200 을 받은 충전 합 - 사용 합 (lost update 확인, 504 나 연결 오류로 결과를 모르는 유저는 제외)
+ * - 결과는 load.report 경로에 JSON 으로 저장 (버전끼리 diff 할 수 있게 키 순서 고정), 정합성이 깨지면 종료 코드 1
+ * - ./gradlew loadTest -Pload.concurrency=64 -Pload.duration-seconds=30 -Ppoint.engine.mode=cas
+ *   (load.* 는 부하 설정, 나머지는 앱 설정으로 그대로 전달)
+ */
+public final class PointLoadTest {
+
+    private static final long HIGHEST_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private PointLoadTest() {
+    }
+
+    enum Endpoint {
+        CHARGE, USE, READ
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpringApplication application = new SpringApplication(TddApplication.class);
+        application.setDefaultProperties(Map.of(
+            "server.port", "0",
+            "point.journal.directory", Files.createTempDirectory("point-load-journal").toString(),
+            "point.admission.enabled", "false",
+            "spring.main.banner-mode", "off",
+            "logging.level.root", "WARN"));
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            Environment environment = context.getEnvironment();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTest loadTest = new LoadTest(environment, "http://localhost:" + port + "/api/v1/point/");
+            Map<String, Object> report = loadTest.run();
+
+            Path path = Path.of(environment.getProperty("load.report", "build/results/load/report.json"));
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+            System.out.println("report: " + path.toAbsolutePath());
+            exitCode = loadTest.consistent() ? 0 : 1;
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 부하 한 번 (설정, 기록, 확인 결과)
+     */
+    private static final class LoadTest {
+
+        private final String baseUrl;
+        private final int concurrency;
+        private final int userCount;
+        private final double zipfExponent;
+        private final int[] mix;
+        private final int warmupSeconds;
+        private final int durationSeconds;
+        private final ZipfGenerator users;
+        private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        // 클라이언트가 200 을 받은 충전 합 - 사용 합, 결과를 모르는 요청이 있었던 유저
+        private final ConcurrentHashMap<Long, LongAdder> expected = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap.KeySetView<Long, Boolean> ambiguous = ConcurrentHashMap.newKeySet();
+        private final Map<String, Object> invariants = new LinkedHashMap<>();
+        private boolean consistent;
+
+        LoadTest(Environment environment, String baseUrl) {
+            this.baseUrl = baseUrl;
+            this.concurrency = environment.getProperty("load.concurrency", Integer.class, 32);
+            this.userCount = environment.getProperty("load.users", Integer.class, 1_000);
+            this.zipfExponent = environment.getProperty("load.zipf-exponent", Double.class, 1.0);
+            this.warmupSeconds = environment.getProperty("load.warmup-seconds", Integer.class, 5);
+            this.durationSeconds = environment.getProperty("load.duration-seconds", Integer.class, 30);
+            String[] ratio = environment.getProperty("load.mix", "40:30:30").split(":");
+            if (ratio.length != 3) {
+                throw new IllegalArgumentException("load.mix 는 charge:use:read 형식");
+            }
+            this.mix = new int[] {Integer.parseInt(ratio[0]), Integer.parseInt(ratio[1]), Integer.parseInt(ratio[2])};
+            this.users = new ZipfGenerator(userCount, zipfExponent);
+        }
+
+        Map<String, Object> run() throws InterruptedException {
+            List<Worker> workers = new ArrayList<>(concurrency);
+            CountDownLatch done = new CountDownLatch(concurrency);
+            long start = System.nanoTime();
+            long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(measureFrom, end, done);
+                workers.add(worker);
+                new Thread(worker, "load-" + i).start();
+            }
+            done.await();
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("config", config());
+            report.put("endpoints", endpoints(workers));
+            report.put("invariants", check());
+            return report;
+        }
+
+        boolean consistent() {
+            return consistent;
+        }
+
+        private Map<String, Object> config() {
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("concurrency", concurrency);
+            config.put("users", userCount);
+            config.put("zipfExponent", zipfExponent);
+            config.put("mix", mix[0] + ":" + mix[1] + ":" + mix[2]);
+            config.put("warmupSeconds", warmupSeconds);
+            config.put("durationSeconds", durationSeconds);
+            return config;
+        }
+
+        private Map<String, Object> endpoints(List<Worker> workers) {
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = new Histogram(HIGHEST_MICROS, 3);
+                Map<Integer, Long> statuses = new TreeMap<>();
+                for (Worker worker : workers) {
+                    histogram.add(worker.histograms.get(endpoint));
+                    worker.statuses.get(endpoint).forEach((status, count) -> statuses.merge(status, count, Long::sum));
+                }
+
+                Map<String, Object> latency = new LinkedHashMap<>();
+                latency.put("mean", Math.round(histogram.getMean()));
+                latency.put("p50", histogram.getValueAtPercentile(50));
+                latency.put("p90", histogram.getValueAtPercentile(90));
+                latency.put("p99", histogram.getValueAtPercentile(99));
+                latency.put("p999", histogram.getValueAtPercentile(99.9));
+                latency.put("max", histogram.getMaxValue());
+
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("requests", histogram.getTotalCount());
+                result.put("throughputPerSecond", (double) Math.round(histogram.getTotalCount() * 10.0 / durationSeconds) / 10);
+                result.put("statuses", statuses);
+                result.put("latencyMicros", latency);
+                endpoints.put(endpoint.name().toLowerCase(), result);
+            }
+            return endpoints;
+        }
+
+        // 요청한 유저마다 포인트, 히스토리 합, 클라이언트가 받은 결과의 합을 비교
+        private Map<String, Object> check() {
+            long historyMismatches = 0;
+            long lostUpdates = 0;
+            List<Long> broken = new ArrayList<>();
+            for (Map.Entry<Long, LongAdder> entry : new TreeMap<>(expected).entrySet()) {
+                long userId = entry.getKey();
+                try {
+                    UserPoint userPoint = objectMapper.readValue(send(get(String.valueOf(userId))).body(), UserPoint.class);
+                    PointHistory[] histories = objectMapper.readValue(
+                        send(get(userId + "/histories")).body(), PointHistory[].class);
+                    long sum = 0;
+                    for (PointHistory history : histories) {
+                        sum += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+                    }
+
+                    boolean mismatch = false;
+                    if (userPoint.point() != sum) {
+                        historyMismatches++;
+                        mismatch = true;
+                    }
+                    if (!ambiguous.contains(userId) && userPoint.point() != entry.getValue().sum()) {
+                        lostUpdates++;
+                        mismatch = true;
+                    }
+                    if (mismatch && broken.size() < 20) {
+                        broken.add(userId);
+                    }
+                } catch (IOException | InterruptedException e) {
+                    throw new IllegalStateException("정합성 확인 실패: userId=" + userId, e);
+                }
+            }
+
+            consistent = historyMismatches == 0 && lostUpdates == 0;
+            invariants.put("usersChecked", expected.size());
+            invariants.put("ambiguousUsers", ambiguous.size());
+            invariants.put("historyMismatches", historyMismatches);
+            invariants.put("lostUpdates", lostUpdates);
+            invariants.put("brokenUserIds", broken);
+            invariants.put("consistent", consistent);
+            return invariants;
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+        }
+
+        private HttpRequest patch(String path, long amount) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build();
+        }
+
+        private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+
+        /**
+         * 요청을 보내는 스레드 하나 (기록은 스레드마다 따로 하고 끝난 뒤에 합침)
+         */
+        private final class Worker implements Runnable {
+
+            private final long measureFrom;
+            private final long end;
+            private final CountDownLatch done;
+            private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+            private final Map<Endpoint, Map<Integer, Long>> statuses = new EnumMap<>(Endpoint.class);
+
+            Worker(long measureFrom, long end, CountDownLatch done) {
+                this.measureFrom = measureFrom;
+                this.end = end;
+                this.done = done;
+                for (Endpoint endpoint : Endpoint.values()) {
+                    histograms.put(endpoint, new Histogram(HIGHEST_MICROS, 3));
+                    statuses.put(endpoint, new TreeMap<>());
+                }
+            }
+
+            @Override
+            public void run() {
+                try {
+                    long now;
+                    while ((now = System.nanoTime()) - end < 0) {
+                        request(now - measureFrom >= 0);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }
+
+            private void request(boolean measure) {
+                long userId = users.next();
+                int pick = ThreadLocalRandom.current().nextInt(mix[0] + mix[1] + mix[2]);
+                Endpoint endpoint = pick < mix[0] ? Endpoint.CHARGE : pick < mix[0] + mix[1] ? Endpoint.USE : Endpoint.READ;
+                long amount = ThreadLocalRandom.current().nextLong(1, endpoint == Endpoint.CHARGE ? 1_000 : 500);
+                HttpRequest request = switch (endpoint) {
+                    case CHARGE -> patch(userId + "/charge", amount);
+                    case USE -> patch(userId + "/use", amount);
+                    case READ -> get(String.valueOf(userId));
+                };
+
+                LongAdder balance = expected.computeIfAbsent(userId, id -> new LongAdder());
+                long start = System.nanoTime();
+                int status;
+                try {
+                    status = send(request).statusCode();
+                } catch (IOException e) {
+                    status = 0;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+                if (status == 200 && endpoint != Endpoint.READ) {
+                    balance.add(endpoint == Endpoint.CHARGE ? amount : -amount);
+                } else if ((status == 0 || status == 504) && endpoint != Endpoint.READ) {
+                    // 시간 초과나 연결 오류는 서버에서 반영됐는지 알 수 없음
+                    ambiguous.add(userId);
+                }
+                if (measure) {
+                    histograms.get(endpoint).recordValue(Math.min(micros, HIGHEST_MICROS));
+                    statuses.get(endpoint).merge(status, 1L, Long::sum);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 1 ~ n 사이의 유저 id 를 Zipf 분포로 뽑음 (id 1 이 가장 자주 나옴)
+ * - k 번째 유저의 확률은 1 / k^exponent 에 비례, exponent 가 0 이면 균등 분포
+ * - 누적 확률을 미리 계산해 두고 이진 탐색으로 뽑음 (스레드끼리 공유해도 됨)
+ */
+final class ZipfGenerator {
+
+    private final double[] cumulative;
+
+    ZipfGenerator(int n, double exponent) {
+        if (n < 1 || exponent < 0) {
+            throw new IllegalArgumentException("유저 수는 1 이상, exponent 는 0 이상");
+        }
+
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    long next() {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        return (index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1)) + 1L;
+    }
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.BenchmarkTables;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 히스토리 한 건당 메모리 사용량
+ * - 원래 PointHistoryTable(List<PointHistory>), PointHistoryIndex, ColumnarPointHistoryStore, TieredPointHistoryStore 를
+ *   같은 히스토리로 채운 뒤 GC 후 힙 사용량 차이를 비교 (tiered 의 세그먼트 파일은 힙이 아니므로 따로 출력)
+ * - 히스토리는 userCount 명에게 돌아가며 1초 간격으로 쌓이고, 금액은 100 ~ 100,000 사이
+ * - ./gradlew historyFootprint -PhistoryCount=1000000
+ */
+public final class PointHistoryStoreFootprint {
+
+    private static final int USER_COUNT = 10_000;
+
+    private PointHistoryStoreFootprint() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int historyCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        measure("table", historyCount, histories -> {
+            PointHistoryTable pointHistoryTable = new PointHistoryTable();
+            BenchmarkTables.seed(pointHistoryTable, histories);
+            return pointHistoryTable;
+        });
+        measure("object", historyCount, histories -> fill(new PointHistoryIndex(), histories));
+        measure("columnar", historyCount, histories -> fill(new ColumnarPointHistoryStore(), histories));
+
+        Path directory = Files.createTempDirectory("history-footprint");
+        TieredPointHistoryStore tieredPointHistoryStore = new TieredPointHistoryStore(
+            new TieredPointHistoryProperties(directory.toString(), 128, 64 << 20));
+        measure("tiered", historyCount, histories -> fill(tieredPointHistoryStore, histories));
+        System.out.printf("%-9s segmentFiles=%dMB%n", "tiered", segmentBytes(directory) >> 20);
+        tieredPointHistoryStore.close();
+        Files.delete(directory);
+    }
+
+    private static long segmentBytes(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    private static void measure(String store, int historyCount, Filler filler) throws InterruptedException {
+        long heap = usedHeap();
+        Object filled = filler.fill(histories(historyCount));
+        long bytes = usedHeap() - heap;
+        System.out.printf("%-9s histories=%d heap=%dMB bytesPerHistory=%.1f%n", store, historyCount, bytes >> 20,
+            (double) bytes / historyCount);
+        Reference.reachabilityFence(filled);
+    }
+
+    // 원본 목록은 측정 전에 버려지도록 store 에 넣은 뒤 참조를 남기지 않음
+    private static List<PointHistory> histories(int historyCount) {
+        List<PointHistory> histories = new ArrayList<>(historyCount);
+        long updateMillis = 1_700_000_000_000L;
+        for (long id = 1; id <= historyCount; id++) {
+            long amount = 100 + (id * 7919) % 100_000;
+            TransactionType type = id % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            histories.add(new PointHistory(id, id % USER_COUNT + 1, amount, type, updateMillis + id * 1_000 / USER_COUNT));
+        }
+        return histories;
+    }
+
+    private static PointHistoryStore fill(PointHistoryStore pointHistoryStore, List<PointHistory> histories) {
+        histories.forEach(pointHistoryStore::append);
+        return pointHistoryStore;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @FunctionalInterface
+    private interface Filler {
+        Object fill(List<PointHistory> histories);
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 응답 한 건을 JSON 으로 쓰는 비용 (Jackson ObjectMapper vs PointJsonWriter)
+ * - histories : historySize 건의 List<PointHistory> (/histories 응답)
+ * - userPoint : UserPoint 하나 (/{id}, 충전/사용 응답)
+ * - 요청당 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 비교
+ *   ./gradlew jmh -PjmhIncludes=PointJsonBenchmark (build.gradle.kts 의 jmh 설정에 profilers 를 추가하거나 JMH 를 직접 실행할 때 -prof gc)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointJsonBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int historySize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountingOutputStream out = new CountingOutputStream();
+    private List<PointHistory> histories;
+    private UserPoint userPoint;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        histories = new ArrayList<>(historySize);
+        long now = System.currentTimeMillis();
+        for (long i = 1; i <= historySize; i++) {
+            histories.add(new PointHistory(i * 1_000, 42L, i * 100, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, now + i));
+        }
+        userPoint = new UserPoint(42L, 1_234_567L, now);
+    }
+
+    @Benchmark
+    public long jacksonHistories() throws IOException {
+        objectMapper.writeValue(out, histories);
+        return out.count;
+    }
+
+    @Benchmark
+    public long pointJsonHistories() throws IOException {
+        PointJsonWriter.of(out).pointHistories(histories).flush();
+        return out.count;
+    }
+
+    @Benchmark
+    public long jacksonUserPoint() throws IOException {
+        objectMapper.writeValue(out, userPoint);
+        return out.count;
+    }
+
+    @Benchmark
+    public long pointJsonUserPoint() throws IOException {
+        PointJsonWriter.of(out).userPoint(userPoint).flush();
+        return out.count;
+    }
+
+    /**
+     * 응답 본문 대신 쓴 byte 수만 세는 stream (close 해도 계속 쓸 수 있음)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
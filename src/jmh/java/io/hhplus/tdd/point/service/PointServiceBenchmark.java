@@ -0,0 +1,184 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.BenchmarkTables;
+import io.hhplus.tdd.database.Latency;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.admission.AdmissionProperties;
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.cache.EvictionPolicy;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.CasPointEngine;
+import io.hhplus.tdd.point.engine.GroupCommitPointEngine;
+import io.hhplus.tdd.point.engine.LockPointEngine;
+import io.hhplus.tdd.point.engine.PointEngine;
+import io.hhplus.tdd.point.engine.ShardEngineProperties;
+import io.hhplus.tdd.point.engine.ShardedPointEngine;
+import io.hhplus.tdd.point.history.Backpressure;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.point.journal.NoopPointJournal;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.lock.UserLockProperties;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * PointService 충전/사용 처리량
+ * - hotUser : 모든 스레드가 같은 유저에 요청 (유저별 경합)
+ * - uniformUsers : userCount 명에게 고르게 요청
+ * - mixed : readRatio 비율로 조회, 나머지는 충전
+ * - async : 컨트롤러와 같이 AsyncPointService 를 거쳐서 요청 (같은 유저 요청을 줄 세우는 비용과 유저끼리의 병렬 처리 확인)
+ * - latency 로 테이블 지연을 RANDOM / FIXED / ZERO 중에서 선택 (기본값 ZERO)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PointServiceBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+    private static final long INITIAL_POINT = Long.MAX_VALUE / 4;
+
+    @Param({"ZERO"})
+    public Latency latency;
+
+    @Param({"lock", "cas", "shard", "group-commit"})
+    public String engine;
+
+    @Param({"10000"})
+    public int userCount;
+
+    @Param({"0.9"})
+    public double readRatio;
+
+    private PointService pointService;
+    private AsyncPointService asyncPointService;
+    private PointMetrics pointMetrics;
+    private PointHistoryWriter pointHistoryWriter;
+    private ShardedPointEngine shardedPointEngine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        UserPointTable userPointTable = BenchmarkTables.userPointTable(latency);
+        PointHistoryTable pointHistoryTable = BenchmarkTables.pointHistoryTable(latency);
+        for (long id = 1; id <= userCount; id++) {
+            BenchmarkTables.seed(userPointTable, id, INITIAL_POINT);
+        }
+
+        pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        UserPointVersions userPointVersions = new UserPointVersions(pointHistoryIndex);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex, userPointVersions,
+            new PointHistoryWriterProperties(1_000_000, 100, Backpressure.BLOCK, 1_000L));
+        UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(userCount, EvictionPolicy.LRU),
+            pointMetrics);
+        PointRepository pointRepository = new PointRepository(new TableUserPointStore(userPointTable), pointHistoryIndex, pointHistoryWriter,
+            userPointVersions, userPointCache, new NoopPointJournal(), pointMetrics);
+        PointValidator pointValidator = new PointValidator(pointMetrics);
+
+        pointService = new PointService(pointRepository, pointValidator, engine(pointRepository, pointValidator));
+        asyncPointService = new AsyncPointService(pointService,
+            new IdempotencyCache(new IdempotencyProperties(1_000, 60_000L), pointMetrics),
+            new PointAdmission(new AdmissionProperties(false, 1L, 1L, 1, 1), pointMetrics),
+            new AsyncPointProperties(64, 100_000, 10_000L), new StandardEnvironment());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        asyncPointService.close();
+        if (shardedPointEngine != null) {
+            shardedPointEngine.close();
+            shardedPointEngine = null;
+        }
+        pointHistoryWriter.close();
+    }
+
+    @Benchmark
+    public UserPoint chargeHotUser() {
+        return pointService.chargePoint(HOT_USER_ID, 1L);
+    }
+
+    @Benchmark
+    public UserPoint useHotUser() {
+        return pointService.usePoint(HOT_USER_ID, 1L);
+    }
+
+    @Benchmark
+    public UserPoint chargeHotUserAsync() {
+        return asyncPointService.chargePoint(HOT_USER_ID, 1L).join();
+    }
+
+    @Benchmark
+    public UserPoint chargeUniformUsersAsync() {
+        return asyncPointService.chargePoint(randomUserId(), 1L).join();
+    }
+
+    @Benchmark
+    public UserPoint chargeUniformUsers() {
+        return pointService.chargePoint(randomUserId(), 1L);
+    }
+
+    @Benchmark
+    public UserPoint useUniformUsers() {
+        return pointService.usePoint(randomUserId(), 1L);
+    }
+
+    @Benchmark
+    public UserPoint mixedUniformUsers() {
+        long id = randomUserId();
+        if (ThreadLocalRandom.current().nextDouble() < readRatio) {
+            return pointService.getUserPoint(id);
+        }
+
+        return pointService.chargePoint(id, 1L);
+    }
+
+    private PointEngine engine(PointRepository pointRepository, PointValidator pointValidator) {
+        return switch (engine) {
+            case "lock" -> new LockPointEngine(pointRepository, pointValidator,
+                new UserLockManager(new UserLockProperties(1024, false, 0L), pointMetrics));
+            case "cas" -> new CasPointEngine(pointRepository, pointValidator);
+            case "shard" -> {
+                shardedPointEngine = new ShardedPointEngine(pointRepository, pointValidator,
+                    new ShardEngineProperties(8, 100_000, 256), pointMetrics);
+                yield shardedPointEngine;
+            }
+            case "group-commit" -> new GroupCommitPointEngine(pointRepository, pointValidator, pointMetrics);
+            default -> throw new IllegalArgumentException("알 수 없는 engine: " + engine);
+        };
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.BenchmarkTables;
+import io.hhplus.tdd.database.Latency;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.cache.EvictionPolicy;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.LockPointEngine;
+import io.hhplus.tdd.point.history.Backpressure;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.journal.NoopPointJournal;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.lock.UserLockProperties;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 여러 스레드가 userCount 명 사이에서 무작위 방향으로 서로 송금할 때의 처리량 (lock 엔진)
+ * - transfer : 두 유저의 락을 stripe 순서로 함께 잡고 한 번에 저장
+ * - useThenCharge : 기존 방식, 보내는 쪽 usePoint 후 받는 쪽 chargePoint (락 두 번, 사이에 포인트가 어느 쪽에도 없음)
+ * - userCount 가 작을수록 같은 유저 쌍이 반대 방향으로 교차하는 경우가 많아짐
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PointTransferBenchmark {
+
+    private static final long INITIAL_POINT = Long.MAX_VALUE / 4;
+
+    @Param({"ZERO"})
+    public Latency latency;
+
+    @Param({"2", "16", "10000"})
+    public int userCount;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        UserPointTable userPointTable = BenchmarkTables.userPointTable(latency);
+        for (long id = 1; id <= userCount; id++) {
+            BenchmarkTables.seed(userPointTable, id, INITIAL_POINT);
+        }
+
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        UserPointVersions userPointVersions = new UserPointVersions(pointHistoryIndex);
+        pointHistoryWriter = new PointHistoryWriter(BenchmarkTables.pointHistoryTable(latency), pointHistoryIndex,
+            userPointVersions,
+            new PointHistoryWriterProperties(1_000_000, 100, Backpressure.BLOCK, 1_000L));
+        UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(userCount, EvictionPolicy.LRU),
+            pointMetrics);
+        PointRepository pointRepository = new PointRepository(new TableUserPointStore(userPointTable), pointHistoryIndex,
+            pointHistoryWriter, userPointVersions, userPointCache, new NoopPointJournal(), pointMetrics);
+        PointValidator pointValidator = new PointValidator(pointMetrics);
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(1024, false, 0L), pointMetrics);
+
+        pointService = new PointService(pointRepository, pointValidator,
+            new LockPointEngine(pointRepository, pointValidator, userLockManager));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        pointHistoryWriter.close();
+    }
+
+    @Benchmark
+    public PointTransfer transfer() {
+        long from = randomUserId();
+        return pointService.transfer(from, otherUserId(from), 1L);
+    }
+
+    @Benchmark
+    public UserPoint useThenCharge() {
+        long from = randomUserId();
+        pointService.usePoint(from, 1L);
+        return pointService.chargePoint(otherUserId(from), 1L);
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+
+    // from 이 아닌 유저 중 무작위
+    private long otherUserId(long from) {
+        long to = ThreadLocalRandom.current().nextLong(1, userCount);
+        return to >= from ? to + 1 : to;
+    }
+}
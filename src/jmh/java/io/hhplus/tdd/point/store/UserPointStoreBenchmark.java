@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.BenchmarkTables;
+import io.hhplus.tdd.database.Latency;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 유저 포인트 저장소별 조회/저장 비용
+ * - table : 지연 없는 UserPointTable (Long -> UserPoint 맵)
+ * - off-heap : OffHeapUserPointStore
+ * - 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op) 로 확인
+ *   ./gradlew jmh -PjmhIncludes=UserPointStoreBenchmark (build.gradle.kts 의 jmh 블록에 profilers 추가) 또는 JMH 에 -prof gc 전달
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserPointStoreBenchmark {
+
+    @Param({"table", "off-heap"})
+    public String store;
+
+    @Param({"1000000"})
+    public int userCount;
+
+    private UserPointStore userPointStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (store.equals("table")) {
+            UserPointTable userPointTable = BenchmarkTables.userPointTable(Latency.ZERO);
+            for (long id = 1; id <= userCount; id++) {
+                BenchmarkTables.seed(userPointTable, id, id);
+            }
+            userPointStore = new TableUserPointStore(userPointTable);
+            return;
+        }
+
+        userPointStore = new OffHeapUserPointStore(new UserPointStoreProperties(store, userCount));
+        for (long id = 1; id <= userCount; id++) {
+            userPointStore.insertOrUpdate(id, id);
+        }
+    }
+
+    @Benchmark
+    public UserPoint selectById() {
+        return userPointStore.selectById(randomUserId());
+    }
+
+    @Benchmark
+    public UserPoint insertOrUpdate() {
+        return userPointStore.insertOrUpdate(randomUserId(), 1L);
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1L);
+    }
+}
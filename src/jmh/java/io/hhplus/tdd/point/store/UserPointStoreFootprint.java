@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.BenchmarkTables;
+import io.hhplus.tdd.database.UserPointTable;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+
+/**
+ * 유저 한 명당 메모리 사용량 (힙 + direct)
+ * - 원래 UserPointTable(HashMap<Long, UserPoint>) 과 OffHeapUserPointStore 를 userCount 명으로 채운 뒤 GC 후 사용량 차이를 비교
+ * - ./gradlew storeFootprint -PuserCount=1000000
+ */
+public final class UserPointStoreFootprint {
+
+    private UserPointStoreFootprint() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        long heap = usedHeap();
+        long direct = usedDirect();
+        UserPointTable userPointTable = new UserPointTable();
+        for (long id = 1; id <= userCount; id++) {
+            BenchmarkTables.seed(userPointTable, id, id);
+        }
+        print("table", userCount, usedHeap() - heap, usedDirect() - direct);
+        Reference.reachabilityFence(userPointTable);
+        userPointTable = null;
+
+        heap = usedHeap();
+        direct = usedDirect();
+        OffHeapUserPointStore offHeapUserPointStore = new OffHeapUserPointStore(
+            new UserPointStoreProperties("off-heap", 1024));
+        for (long id = 1; id <= userCount; id++) {
+            offHeapUserPointStore.insertOrUpdate(id, id);
+        }
+        print("off-heap", userCount, usedHeap() - heap, usedDirect() - direct);
+        Reference.reachabilityFence(offHeapUserPointStore);
+    }
+
+    private static void print(String store, int userCount, long heapBytes, long directBytes) {
+        System.out.printf("%-9s users=%d heap=%dMB direct=%dMB bytesPerUser=%.1f%n", store, userCount,
+            heapBytes >> 20, directBytes >> 20, (double) (heapBytes + directBytes) / userCount);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedDirect() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+            .filter(pool -> pool.getName().equals("direct"))
+            .mapToLong(BufferPoolMXBean::getMemoryUsed)
+            .sum();
+    }
+}
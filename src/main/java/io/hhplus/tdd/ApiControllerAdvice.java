@@ -1,5 +1,11 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.admission.AdmissionRejectedException;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyMismatchException;
+import io.hhplus.tdd.point.lock.LockTimeoutException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +13,27 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(value = AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejectedException(AdmissionRejectedException e) {
+        return ResponseEntity.status(429).header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ErrorResponse("429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(value = {TimeoutException.class, LockTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleTimeoutException(Exception e) {
+        return ResponseEntity.status(504).body(new ErrorResponse("504", "처리 시간이 초과되었습니다."));
+    }
+
+    @ExceptionHandler(value = IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -1,10 +1,24 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointSummary;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.TransactionType;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.RepositoryOperation;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.summary.PointVersion;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -12,27 +26,210 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class PointRepository {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserPointVersions userPointVersions;
+    private final UserPointCache userPointCache;
+    private final PointJournal pointJournal;
+    private final PointMetrics pointMetrics;
 
-    // 유저의 포인트 조회
+    // 유저의 포인트 조회 (캐시 미스일 때만 저장소 조회, 재시작 후 아직 바뀌지 않은 유저는 저널에서 복구한 포인트)
     public UserPoint findUserPointById(long id) {
-        return userPointTable.selectById(id);
+        long start = System.nanoTime();
+        try {
+            UserPoint cached = userPointCache.get(id);
+            if (cached != null) {
+                return cached;
+            }
+
+            long stamp = userPointCache.stamp(id);
+            UserPoint userPoint = pointJournal.findRecoveredPoint(id);
+            if (userPoint == null) {
+                userPoint = userPointStore.selectById(id);
+            }
+            userPointCache.fill(userPoint, stamp);
+            return userPoint;
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.FIND_USER_POINT, start);
+        }
     }
 
-    // 유저의 포인트 히스토리 조회
+    // 유저의 포인트 히스토리 조회 (전체 테이블을 훑지 않고 유저별 히스토리 저장소에서 조회)
     public List<PointHistory> findPointHistoryById(long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        long start = System.nanoTime();
+        try {
+            return pointHistoryStore.findAllByUserId(id);
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.FIND_POINT_HISTORY, start);
+        }
+    }
+
+    // 유저의 포인트 히스토리 중 query 에 맞는 것을 최대 limit 건 조회
+    public List<PointHistory> findPointHistoryById(long id, PointHistoryQuery query, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<PointHistory> histories = new ArrayList<>(Math.min(limit, 1024));
+            pointHistoryStore.scan(id, query, pointHistory -> {
+                histories.add(pointHistory);
+                return histories.size() < limit;
+            });
+            return histories;
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.FIND_POINT_HISTORY, start);
+        }
+    }
+
+    // 유저의 포인트 히스토리 중 query 에 맞는 것을 하나씩 visitor 에 넘김 (목록을 만들지 않음)
+    public void scanPointHistoryById(long id, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        pointHistoryStore.scan(id, query, visitor);
+    }
+
+    // 유저의 포인트와 히스토리를 같은 버전으로 조회 (쓰기 중이어도 락 없이, 반쯤 반영된 상태를 보지 않음)
+    public PointSummary findPointSummaryById(long id) {
+        long start = System.nanoTime();
+        try {
+            PointVersion version = userPointVersions.get(id);
+            List<PointHistory> histories = new ArrayList<>();
+            pointHistoryStore.scan(id, PointHistoryQuery.all(), pointHistory -> {
+                if (pointHistory.id() > version.version()) {
+                    return false;
+                }
+                histories.add(pointHistory);
+                return true;
+            });
+            return new PointSummary(id, version.point(), version.version(), version.updateMillis(), histories);
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.FIND_POINT_SUMMARY, start);
+        }
     }
 
-    // 유저의 포인트 저장 또는 업데이트
+    // 유저의 누적 충전/사용 합과 히스토리 건수 조회 (히스토리를 저장할 때마다 갱신해 둔 값이라 O(1))
+    public PointAggregate findPointAggregateById(long id) {
+        long start = System.nanoTime();
+        try {
+            return toAggregate(userPointVersions.get(id));
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.FIND_POINT_AGGREGATE, start);
+        }
+    }
+
+    // 유저의 집계를 히스토리 저장소에서 다시 계산 (복구용)
+    public PointAggregate rebuildPointAggregate(long id) {
+        return toAggregate(userPointVersions.rebuild(id));
+    }
+
+    // 유저의 포인트 저장 또는 업데이트 (저널에 먼저 기록하고 저장소와 캐시에 반영)
     public UserPoint savePoint(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        long start = System.nanoTime();
+        try {
+            pointJournal.appendPoint(new UserPoint(id, amount, System.currentTimeMillis()));
+            UserPoint userPoint = userPointStore.insertOrUpdate(id, amount);
+            userPointCache.put(userPoint);
+            pointJournal.releaseRecoveredPoint(id);
+            return userPoint;
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.SAVE_POINT, start);
+        }
+    }
+
+    // 히스토리 대기열 자리 확보 (포인트를 바꾸기 전에 거절 여부를 확인해야 하는 경우)
+    public void reservePointHistory() {
+        pointHistoryWriter.reserve();
+    }
+
+    // 확보한 히스토리 대기열 자리 반납
+    public void cancelPointHistoryReservation() {
+        pointHistoryWriter.cancelReservation();
+    }
+
+    // 히스토리 자리를 확보한 충전/사용 한 건 저장 (point 는 적용 직후의 포인트)
+    public UserPoint saveReservedPointChange(long id, long point, long amount, TransactionType type) {
+        return saveReservedPointChanges(id, List.of(new PointChange(amount, type, point)));
+    }
+
+    /**
+     * 히스토리 자리를 건수만큼 확보한 한 유저의 충전/사용들을 순서대로 저장하고, 마지막 포인트를 반환
+     * - 저널에 건마다 히스토리와 포인트를 하나의 기록으로 남긴 뒤에 저장소, 캐시, 히스토리 writer 에 반영
+     * - 저널에 남기지 못하면 아무것도 바꾸지 않고 확보한 자리를 모두 반납
+     * - 저널에 남은 뒤에는 저장소 저장이 실패해도 발급한 히스토리는 모두 writer 에 넘김 (재시작하면 저널에서 복구되고, id 가 비면 뒤의 insert 가 밀림)
+     */
+    public UserPoint saveReservedPointChanges(long id, List<PointChange> changes) {
+        long start = System.nanoTime();
+        try {
+            List<PointHistory> histories;
+            try {
+                histories = pointJournal.appendChanges(id, changes, System.currentTimeMillis(), pointHistoryWriter::nextId);
+            } catch (RuntimeException e) {
+                for (int i = 0; i < changes.size(); i++) {
+                    pointHistoryWriter.cancelReservation();
+                }
+                throw e;
+            }
+
+            // 포인트를 저장한 뒤 히스토리를 기록해서, 요약에는 저장된 포인트만 보임
+            try {
+                UserPoint userPoint = userPointStore.insertOrUpdate(id, changes.get(changes.size() - 1).point());
+                userPointCache.put(userPoint);
+                pointJournal.releaseRecoveredPoint(id);
+                return userPoint;
+            } finally {
+                for (PointHistory pointHistory : histories) {
+                    pointHistoryWriter.writeReserved(pointHistory);
+                }
+            }
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.SAVE_POINT_CHANGE, start);
+        }
+    }
+
+    // 송금 한 건을 한 단위로 저장 (양쪽 히스토리 자리를 먼저 확보해서 한쪽만 바뀐 채 거절되지 않게 하고, 저널에는 하나의 기록으로)
+    public PointTransfer saveTransfer(long fromId, long fromPoint, long toId, long toPoint, long amount) {
+        pointHistoryWriter.reserve();
+        try {
+            pointHistoryWriter.reserve();
+        } catch (RuntimeException e) {
+            pointHistoryWriter.cancelReservation();
+            throw e;
+        }
+        return saveReservedTransfer(fromId, fromPoint, toId, toPoint, amount);
+    }
+
+    // 히스토리 자리 두 개를 확보한 송금 저장 (저널에 먼저 기록하고, 양쪽 포인트를 저장한 뒤 히스토리를 기록해서 요약에는 저장된 포인트만 보임)
+    public PointTransfer saveReservedTransfer(long fromId, long fromPoint, long toId, long toPoint, long amount) {
+        long start = System.nanoTime();
+        try {
+            long now = System.currentTimeMillis();
+            List<PointHistory> histories;
+            try {
+                histories = pointJournal.appendTransfer(new UserPoint(fromId, fromPoint, now),
+                    new UserPoint(toId, toPoint, now), amount, pointHistoryWriter::nextId);
+            } catch (RuntimeException e) {
+                pointHistoryWriter.cancelReservation();
+                pointHistoryWriter.cancelReservation();
+                throw e;
+            }
+
+            try {
+                UserPoint from = userPointStore.insertOrUpdate(fromId, fromPoint);
+                UserPoint to = userPointStore.insertOrUpdate(toId, toPoint);
+                userPointCache.put(from);
+                userPointCache.put(to);
+                pointJournal.releaseRecoveredPoint(fromId);
+                pointJournal.releaseRecoveredPoint(toId);
+                return new PointTransfer(from, to);
+            } finally {
+                for (PointHistory pointHistory : histories) {
+                    pointHistoryWriter.writeReserved(pointHistory);
+                }
+            }
+        } finally {
+            pointMetrics.recordRepository(RepositoryOperation.SAVE_TRANSFER, start);
+        }
     }
 
-    // 유저의 포인트 히스토리 저장
-    public PointHistory savePointHistory(long id, long amount, TransactionType type) {
-        return pointHistoryTable.insert(id, amount, type, System.currentTimeMillis());
+    private static PointAggregate toAggregate(PointVersion version) {
+        return new PointAggregate(version.userId(), version.totalCharged(), version.totalUsed(), version.count(), version.version());
     }
 
 }
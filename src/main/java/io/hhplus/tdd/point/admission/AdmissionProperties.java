@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.admission")
+public record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") long userRatePerSecond,
+        @DefaultValue("400") long userBurst,
+        @DefaultValue("64") int userMaxPending,
+        @DefaultValue("10000") int maxConcurrent
+) {
+
+    // 토큰 간격(ns) * burst 가 long 범위를 넘지 않도록
+    static final long MAX_RATE = 1_000_000_000L;
+    static final long MAX_BURST = 1_000_000_000L;
+
+    public AdmissionProperties {
+        if (userRatePerSecond < 1 || userRatePerSecond > MAX_RATE || userBurst < 1 || userBurst > MAX_BURST
+                || userMaxPending < 1 || maxConcurrent < 1) {
+            throw new IllegalArgumentException("point.admission 의 user-rate-per-second, user-burst 는 1 ~ 10^9, "
+                + "user-max-pending, max-concurrent 는 1 이상이어야 함");
+        }
+    }
+}
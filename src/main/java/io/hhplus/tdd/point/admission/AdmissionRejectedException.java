@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.point.metrics.AdmissionRejection;
+
+public class AdmissionRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AdmissionRejection rejection;
+
+    public AdmissionRejectedException(long userId, AdmissionRejection rejection) {
+        super("요청 거절: userId=" + userId + " reason=" + rejection.reason());
+        this.rejection = rejection;
+    }
+
+    public AdmissionRejection rejection() {
+        return rejection;
+    }
+}
@@ -0,0 +1,195 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.point.metrics.AdmissionRejection;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * PointService 앞단의 요청 수 제한 (넘치는 요청은 줄 세우지 않고 바로 AdmissionRejectedException)
+ * - 전체 : 처리 중인 (받았지만 아직 끝나지 않은) 요청 수를 maxConcurrent 이하로
+ * - 유저별 대기 : 유저 하나의 처리 중인 요청 수를 userMaxPending 이하로 (같은 유저 요청은 순서대로 처리되므로 사실상 유저별 대기열 길이)
+ * - 유저별 속도 : 초당 userRatePerSecond 개씩 채워지고 최대 userBurst 개까지 쌓이는 token bucket
+ *   - 토큰 수 대신 "다음 토큰이 채워지는 시각" 하나만 들고 CAS 로 옮김 (GCRA, 락 없음)
+ * - 유저 상태는 처리 중인 요청이 없고 토큰이 가득 찬 (새로 만든 것과 같은) 상태가 되면 지움
+ *   - 지우기 직전에 pending 을 -1 로 닫아서, 다른 스레드가 지워지는 상태에 요청을 더하지 않고 새 상태를 다시 만들게 함
+ * - 받은 요청은 끝날 때 Permit.release 를 한 번 불러야 함
+ */
+@Component
+public class PointAdmission {
+
+    private static final Permit NOOP = new Permit(null, 0L, null);
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int userMaxPending;
+    private final int maxConcurrent;
+    private final PointMetrics pointMetrics;
+
+    private final ConcurrentHashMap<Long, UserState> users = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong nextSweepNanos = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+    public PointAdmission(AdmissionProperties properties, PointMetrics pointMetrics) {
+        this.enabled = properties.enabled();
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.userRatePerSecond();
+        this.burstNanos = intervalNanos * properties.userBurst();
+        this.userMaxPending = properties.userMaxPending();
+        this.maxConcurrent = properties.maxConcurrent();
+        this.pointMetrics = pointMetrics;
+        pointMetrics.gaugeAdmission(inFlight::get, users::size);
+    }
+
+    // 받을 수 있으면 Permit, 아니면 AdmissionRejectedException
+    public Permit acquire(long userId) {
+        if (!enabled) {
+            return NOOP;
+        }
+
+        if (!tryIncrement(inFlight, maxConcurrent)) {
+            throw reject(userId, AdmissionRejection.CONCURRENCY);
+        }
+
+        long now = System.nanoTime();
+        UserState state;
+        while (true) {
+            state = users.get(userId);
+            if (state == null) {
+                state = users.computeIfAbsent(userId, id -> new UserState(now));
+            }
+            int pending = state.pending.get();
+            if (pending < 0) {
+                // 지워지는 중인 상태, 새 상태가 들어올 때까지 다시 조회
+                Thread.onSpinWait();
+                continue;
+            }
+            if (pending >= userMaxPending) {
+                inFlight.decrementAndGet();
+                throw reject(userId, AdmissionRejection.USER_PENDING);
+            }
+            if (state.pending.compareAndSet(pending, pending + 1)) {
+                break;
+            }
+        }
+
+        if (!state.tryTake(now, intervalNanos, burstNanos)) {
+            state.pending.decrementAndGet();
+            inFlight.decrementAndGet();
+            throw reject(userId, AdmissionRejection.USER_RATE);
+        }
+        return new Permit(this, userId, state);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int trackedUsers() {
+        return users.size();
+    }
+
+    private void release(long userId, UserState state) {
+        long now = System.nanoTime();
+        if (state.pending.decrementAndGet() == 0) {
+            removeIfIdle(userId, state, now);
+        }
+        inFlight.decrementAndGet();
+        sweep(now);
+    }
+
+    // release 할 때는 토큰이 아직 다 차지 않아 남은 유저를, 최대 1초에 한 번 훑어서 지움
+    private void sweep(long now) {
+        long next = nextSweepNanos.get();
+        if (now - next < 0 || !nextSweepNanos.compareAndSet(next, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+
+        users.forEach((userId, state) -> {
+            if (state.pending.get() == 0) {
+                removeIfIdle(userId, state, now);
+            }
+        });
+    }
+
+    private void removeIfIdle(long userId, UserState state, long now) {
+        if (state.full(now) && state.pending.compareAndSet(0, -1)) {
+            users.remove(userId, state);
+        }
+    }
+
+    private AdmissionRejectedException reject(long userId, AdmissionRejection rejection) {
+        pointMetrics.countAdmissionRejection(rejection);
+        return new AdmissionRejectedException(userId, rejection);
+    }
+
+    private static boolean tryIncrement(AtomicInteger counter, int limit) {
+        while (true) {
+            int current = counter.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 받은 요청 하나 (끝나면 release)
+     */
+    public static final class Permit {
+
+        private final PointAdmission admission;
+        private final long userId;
+        private final UserState state;
+
+        private Permit(PointAdmission admission, long userId, UserState state) {
+            this.admission = admission;
+            this.userId = userId;
+            this.state = state;
+        }
+
+        public void release() {
+            if (admission != null) {
+                admission.release(userId, state);
+            }
+        }
+    }
+
+    /**
+     * 유저 하나의 token bucket 과 처리 중인 요청 수
+     * - tat : 다음 토큰이 채워지는 시각 (now 이전이면 토큰이 가득 찬 상태)
+     * - 토큰 하나를 쓰면 tat 가 interval 만큼 늦어지고, tat - now 가 burst * interval 을 넘으면 토큰이 없는 상태
+     */
+    private static final class UserState {
+
+        private final AtomicLong tat;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        UserState(long now) {
+            this.tat = new AtomicLong(now);
+        }
+
+        boolean tryTake(long now, long intervalNanos, long burstNanos) {
+            while (true) {
+                long current = tat.get();
+                long next = (current - now > 0 ? current : now) + intervalNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean full(long now) {
+            return tat.get() - now <= 0;
+        }
+    }
+}
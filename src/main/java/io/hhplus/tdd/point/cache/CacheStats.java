@@ -0,0 +1,9 @@
+package io.hhplus.tdd.point.cache;
+
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        int size
+) {
+}
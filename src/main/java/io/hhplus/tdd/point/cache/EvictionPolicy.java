@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.cache;
+
+/**
+ * 캐시가 가득 찼을 때 제거할 항목을 고르는 정책
+ * - LRU : 가장 오래 전에 사용된 항목 제거
+ * - LFU : 가장 적게 사용된 항목 제거 (같으면 먼저 들어온 항목)
+ */
+public enum EvictionPolicy {
+    LRU, LFU
+}
@@ -0,0 +1,262 @@
+package io.hhplus.tdd.point.cache;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 포인트 write-through 캐시
+ * - savePoint, saveReservedPointChanges 가 테이블에 쓴 직후 put 으로 갱신하므로, 캐시에는 항상 마지막으로 커밋된 포인트가 들어있음
+ * - 조회 미스 시 테이블에서 읽은 값은 fill 로 채우는데, 읽는 도중 같은 stripe 에 쓰기가 있었다면 오래된 값일 수 있으므로 버림
+ * - userId 해시로 나눈 stripe 마다 락, 항목, 쓰기 stamp 를 따로 두므로 다른 stripe 의 조회/쓰기와 경합하지 않음
+ *   - maxSize 를 stripe 수로 나눠 stripe 마다 설정된 정책(LRU/LFU)으로 제거 (maxSize 가 작으면 stripe 하나)
+ */
+@Component
+public class UserPointCache {
+
+    static final int MAX_STRIPES = 64;
+    static final int MIN_STRIPE_SIZE = 128;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserPointCache(UserPointCacheProperties properties, PointMetrics pointMetrics) {
+        int maxSize = properties.maxSize();
+        int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maxSize / MIN_STRIPE_SIZE)));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            int capacity = maxSize / count + (i < maxSize % count ? 1 : 0);
+            Store store = properties.evictionPolicy() == EvictionPolicy.LFU ? new LfuStore() : new LruStore();
+            stripes[i] = new Stripe(capacity, store);
+        }
+        this.mask = count - 1;
+        pointMetrics.gaugeCache(this::stats);
+    }
+
+    // 캐시된 포인트 조회, 없으면 null
+    public UserPoint get(long id) {
+        Stripe stripe = stripeOf(id);
+        UserPoint userPoint;
+        synchronized (stripe) {
+            userPoint = stripe.store.get(id);
+        }
+
+        (userPoint == null ? misses : hits).increment();
+        return userPoint;
+    }
+
+    // 미스 후 테이블을 읽기 전에 받아두는 값
+    public long stamp(long id) {
+        return stripeOf(id).writeStamp;
+    }
+
+    // 커밋된 포인트 반영
+    public void put(UserPoint userPoint) {
+        Stripe stripe = stripeOf(userPoint.id());
+        synchronized (stripe) {
+            stripe.writeStamp++;
+            putEntry(stripe, userPoint);
+        }
+    }
+
+    // 테이블에서 읽은 포인트 반영, stamp 이후에 같은 stripe 에 쓰기가 있었으면 무시
+    public void fill(UserPoint userPoint, long stamp) {
+        Stripe stripe = stripeOf(userPoint.id());
+        synchronized (stripe) {
+            if (stripe.writeStamp != stamp || stripe.store.contains(userPoint.id())) {
+                return;
+            }
+            putEntry(stripe, userPoint);
+        }
+    }
+
+    public void invalidate(long id) {
+        Stripe stripe = stripeOf(id);
+        synchronized (stripe) {
+            stripe.writeStamp++;
+            stripe.store.remove(id);
+        }
+    }
+
+    public CacheStats stats() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.store.size();
+            }
+        }
+
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    // 새 항목이 들어갈 자리가 없으면 먼저 하나를 제거 (stripe 락을 잡은 상태)
+    private void putEntry(Stripe stripe, UserPoint userPoint) {
+        if (!stripe.store.contains(userPoint.id()) && stripe.store.size() >= stripe.capacity) {
+            stripe.store.evict();
+            evictions.increment();
+        }
+        stripe.store.put(userPoint.id(), userPoint);
+    }
+
+    private Stripe stripeOf(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash ^ (hash >>> 32)) & mask];
+    }
+
+    /**
+     * 캐시의 한 구간, 모든 필드는 stripe 자신을 락으로 보호 (writeStamp 는 stamp 에서 락 없이 읽음)
+     */
+    private static final class Stripe {
+
+        private final int capacity;
+        private final Store store;
+
+        // put 할 때마다 증가, 미스 후 fill 할 때 그 사이에 쓰기가 있었는지 판단하는 용도
+        private volatile long writeStamp;
+
+        Stripe(int capacity, Store store) {
+            this.capacity = capacity;
+            this.store = store;
+        }
+    }
+
+    private interface Store {
+
+        UserPoint get(long id);
+
+        boolean contains(long id);
+
+        void put(long id, UserPoint userPoint);
+
+        void remove(long id);
+
+        void evict();
+
+        int size();
+    }
+
+    // accessOrder LinkedHashMap, 맨 앞이 가장 오래 전에 사용된 항목
+    private static final class LruStore implements Store {
+
+        private final LinkedHashMap<Long, UserPoint> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        @Override
+        public UserPoint get(long id) {
+            return entries.get(id);
+        }
+
+        @Override
+        public boolean contains(long id) {
+            return entries.containsKey(id);
+        }
+
+        @Override
+        public void put(long id, UserPoint userPoint) {
+            entries.put(id, userPoint);
+        }
+
+        @Override
+        public void remove(long id) {
+            entries.remove(id);
+        }
+
+        @Override
+        public void evict() {
+            Iterator<Long> iterator = entries.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    // 사용 횟수별 버킷을 두는 O(1) LFU, 같은 횟수 안에서는 먼저 들어온 항목부터 제거
+    private static final class LfuStore implements Store {
+
+        private final Map<Long, UserPoint> entries = new HashMap<>();
+        private final Map<Long, Integer> frequencies = new HashMap<>();
+        private final Map<Integer, LinkedHashSet<Long>> buckets = new HashMap<>();
+        private int minFrequency;
+
+        @Override
+        public UserPoint get(long id) {
+            UserPoint userPoint = entries.get(id);
+            if (userPoint != null) {
+                touch(id);
+            }
+
+            return userPoint;
+        }
+
+        @Override
+        public boolean contains(long id) {
+            return entries.containsKey(id);
+        }
+
+        @Override
+        public void put(long id, UserPoint userPoint) {
+            if (entries.put(id, userPoint) != null) {
+                touch(id);
+                return;
+            }
+            frequencies.put(id, 1);
+            buckets.computeIfAbsent(1, frequency -> new LinkedHashSet<>()).add(id);
+            minFrequency = 1;
+        }
+
+        @Override
+        public void remove(long id) {
+            if (entries.remove(id) == null) {
+                return;
+            }
+            int frequency = frequencies.remove(id);
+            removeFromBucket(frequency, id);
+        }
+
+        @Override
+        public void evict() {
+            while (!buckets.containsKey(minFrequency)) {
+                minFrequency++;
+            }
+            LinkedHashSet<Long> bucket = buckets.get(minFrequency);
+            long id = bucket.iterator().next();
+            remove(id);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        private void touch(long id) {
+            int frequency = frequencies.get(id);
+            removeFromBucket(frequency, id);
+            if (frequency == minFrequency && !buckets.containsKey(frequency)) {
+                minFrequency = frequency + 1;
+            }
+            frequencies.put(id, frequency + 1);
+            buckets.computeIfAbsent(frequency + 1, f -> new LinkedHashSet<>()).add(id);
+        }
+
+        private void removeFromBucket(int frequency, long id) {
+            LinkedHashSet<Long> bucket = buckets.get(frequency);
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                buckets.remove(frequency);
+            }
+        }
+    }
+}
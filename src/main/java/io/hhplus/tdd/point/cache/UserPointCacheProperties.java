@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.cache")
+public record UserPointCacheProperties(
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("LRU") EvictionPolicy evictionPolicy
+) {
+
+    public UserPointCacheProperties {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("point.cache.max-size 는 1 이상이어야 함");
+        }
+    }
+}
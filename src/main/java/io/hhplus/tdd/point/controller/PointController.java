@@ -1,48 +1,205 @@
 package io.hhplus.tdd.point.controller;
 
 import io.hhplus.tdd.point.PointHistory;
-import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.PointSummary;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.service.AsyncPointService;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.event.PointEventHub;
+import io.hhplus.tdd.point.json.PointJsonWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+/**
+ * 포인트 API
+ * - 서비스 호출 결과를 CompletableFuture 로 반환해서, 처리를 기다리는 동안 서블릿 스레드를 반납함
+ */
 @RestController
 @RequestMapping("/api/v1/point")
 @RequiredArgsConstructor
 public class PointController {
 
+    // 엔드포인트별 처리 시간은 http.server.requests 지표로 수집하므로 요청 로그는 debug 로만 남김
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
-    private final PointService pointService;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final AsyncPointService asyncPointService;
+    private final PointEventHub pointEventHub;
 
     @GetMapping("{id}")
-    public UserPoint point(@PathVariable("id") long id) {
-        log.info("포인트 조회 요청: id={}", id);
-        return pointService.getUserPoint(id);
+    public CompletableFuture<UserPoint> point(@PathVariable("id") long id) {
+        log.debug("포인트 조회 요청: id={}", id);
+        return asyncPointService.getUserPoint(id);
     }
 
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(@PathVariable long id) {
-        log.info("포인트 충전/이용 내역 조회: id={}", id);
-        return pointService.getHistory(id);
+    public CompletableFuture<List<PointHistory>> history(@PathVariable long id) {
+        log.debug("포인트 충전/이용 내역 조회: id={}", id);
+        return asyncPointService.getHistory(id);
+    }
+
+    // 포인트와 히스토리를 같은 버전으로 함께 반환 (잔액과 히스토리 합이 항상 맞음)
+    @GetMapping("{id}/summary")
+    public CompletableFuture<PointSummary> summary(@PathVariable long id) {
+        log.debug("포인트 요약 조회: id={}", id);
+        return asyncPointService.getSummary(id);
+    }
+
+    // 포인트가 바뀔 때마다 새 포인트와 히스토리를 SSE 로 보냄 (조회 polling 대신)
+    @GetMapping(value = "{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable long id) {
+        log.debug("포인트 변경 구독: id={}", id);
+        return pointEventHub.subscribe(id);
+    }
+
+    // 누적 충전/사용 합과 건수를 히스토리를 훑지 않고 반환
+    @GetMapping("{id}/aggregate")
+    public CompletableFuture<PointAggregate> aggregate(@PathVariable long id) {
+        log.debug("포인트 집계 조회: id={}", id);
+        return asyncPointService.getAggregate(id);
+    }
+
+    @PostMapping("{id}/aggregate/rebuild")
+    public CompletableFuture<PointAggregate> rebuildAggregate(@PathVariable long id) {
+        log.info("포인트 집계 재계산: id={}", id);
+        return asyncPointService.rebuildAggregate(id);
+    }
+
+    // cursor 다음부터 size 건씩 읽는 페이지 조회
+    @GetMapping("{id}/histories/page")
+    public CompletableFuture<PointHistoryPage> historyPage(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        log.debug("포인트 충전/이용 내역 페이지 조회: id={} cursor={} size={}", id, cursor, size);
+        return asyncPointService.getHistory(id, PointHistoryQuery.of(cursor, from, to, type), size);
+    }
+
+    // 읽는 대로 한 줄씩 내보내는 NDJSON 스트림 (전체 목록을 메모리에 만들지 않음)
+    // 읽기는 다른 조회와 같이 AsyncPointService 의 요청 수 제한, 제한 시간, 스레드 풀을 거침
+    // 요청 수 제한으로 거절되면 ApiControllerAdvice 가 429 로 응답할 수 있도록, NDJSON content type 은 첫 줄을 쓰기 직전에 정함
+    @GetMapping("{id}/histories/stream")
+    public ResponseEntity<StreamingResponseBody> historyStream(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type,
+            HttpServletResponse response
+    ) {
+        log.debug("포인트 충전/이용 내역 스트림 조회: id={} cursor={}", id, cursor);
+        PointHistoryQuery query = PointHistoryQuery.of(cursor, from, to, type);
+        StreamingResponseBody body = outputStream -> {
+            PointJsonWriter writer = PointJsonWriter.of(outputStream);
+            await(asyncPointService.streamHistory(id, query, pointHistory -> {
+                ndjson(response);
+                writeLine(writer, pointHistory);
+                return true;
+            }));
+            ndjson(response);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok().body(body);
     }
 
+    // Idempotency-Key 헤더가 있으면 같은 key 로 재시도한 요청은 다시 실행하지 않고 처음 요청의 결과를 반환
     @PatchMapping("{id}/charge")
-    public UserPoint charge(@PathVariable("id") long id, @RequestBody long amount) {
-        log.info("포인트 충전: id={} amount={}", id, amount);
-        return pointService.chargePoint(id, amount);
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable("id") long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
+        log.debug("포인트 충전: id={} amount={} idempotencyKey={}", id, amount, idempotencyKey);
+        if (idempotencyKey == null) {
+            return asyncPointService.chargePoint(id, amount);
+        }
+        return asyncPointService.chargePoint(id, amount, idempotencyKey);
     }
 
+    // 충전과 같이 Idempotency-Key 로 재시도를 구분
     @PatchMapping("{id}/use")
-    public UserPoint use(@PathVariable("id") long id, @RequestBody long amount) {
-        log.info("포인트 사용: id={} amount={}", id, amount);
-        return pointService.usePoint(id, amount);
+    public CompletableFuture<UserPoint> use(
+            @PathVariable("id") long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
+        log.debug("포인트 사용: id={} amount={} idempotencyKey={}", id, amount, idempotencyKey);
+        if (idempotencyKey == null) {
+            return asyncPointService.usePoint(id, amount);
+        }
+        return asyncPointService.usePoint(id, amount, idempotencyKey);
+    }
+
+    // 양쪽 포인트를 한 번에 저장해서, 포인트가 어느 쪽에도 없는 순간이 생기지 않음
+    @PatchMapping("{id}/transfer")
+    public CompletableFuture<PointTransfer> transfer(@PathVariable("id") long id, @RequestBody PointTransferRequest request) {
+        log.debug("포인트 송금: from={} to={} amount={}", id, request.toUserId(), request.amount());
+        return asyncPointService.transfer(id, request.toUserId(), request.amount());
+    }
+
+    // 정산 작업처럼 충전/사용이 많은 경우 한 번에 처리하고 건별 결과를 요청 순서대로 반환
+    @PostMapping("batch")
+    public CompletableFuture<List<PointOperationResult>> batch(@RequestBody List<PointOperation> operations) {
+        log.debug("포인트 일괄 처리: size={}", operations.size());
+        return asyncPointService.applyBatch(operations);
+    }
+
+    // 스트림은 응답 본문을 쓰는 스레드에서 끝날 때까지 기다리고, 실패 원인은 그대로 던져서 ApiControllerAdvice 가 처리
+    private void await(CompletableFuture<Void> streamed) {
+        try {
+            streamed.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void ndjson(HttpServletResponse response) {
+        if (response.getContentType() == null) {
+            response.setContentType(APPLICATION_NDJSON_VALUE);
+        }
+    }
+
+    private void writeLine(PointJsonWriter writer, PointHistory pointHistory) {
+        try {
+            writer.pointHistory(pointHistory).newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 유저의 누적 충전/사용 합과 히스토리 건수
+ * - version : 반영된 마지막 히스토리 id
+ */
+public record PointAggregate(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long count,
+        long version
+) {
+}
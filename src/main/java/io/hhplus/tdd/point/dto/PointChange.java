@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 한 유저의 충전/사용 한 건과 그 변경을 적용한 직후의 포인트 (저널에는 히스토리와 포인트를 하나의 기록으로 남김)
+ */
+public record PointChange(
+        long amount,
+        TransactionType type,
+        long point
+) {
+}
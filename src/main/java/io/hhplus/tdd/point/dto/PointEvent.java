@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 포인트 변경 이벤트 (SSE 로 전달)
+ * - version : 반영된 마지막 히스토리 id (SSE 이벤트 id 로도 사용)
+ * - pointHistory : 이 변경을 만든 히스토리, 구독 직후 보내는 현재 포인트에는 없음 (null)
+ */
+public record PointEvent(
+        long version,
+        UserPoint userPoint,
+        PointHistory pointHistory
+) {
+}
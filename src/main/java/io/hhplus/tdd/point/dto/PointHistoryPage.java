@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.PointHistory;
+import java.util.List;
+
+/**
+ * 포인트 히스토리 한 페이지
+ * - nextCursor : 다음 페이지 요청에 넘길 cursor, 마지막 페이지면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
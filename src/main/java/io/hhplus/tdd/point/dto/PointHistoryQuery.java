@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 포인트 히스토리 조회 조건
+ * - cursor : 이 id 보다 큰 히스토리만 (0 이면 처음부터)
+ * - fromMillis ~ toMillis : updateMillis 가 fromMillis 이상, toMillis 미만
+ * - type : null 이면 전체
+ */
+public record PointHistoryQuery(
+        long cursor,
+        long fromMillis,
+        long toMillis,
+        TransactionType type
+) {
+
+    private static final PointHistoryQuery ALL = new PointHistoryQuery(0L, Long.MIN_VALUE, Long.MAX_VALUE, null);
+
+    public static PointHistoryQuery all() {
+        return ALL;
+    }
+
+    // 요청 파라미터로 조건 생성, 없는 값은 제한 없음
+    public static PointHistoryQuery of(Long cursor, Long fromMillis, Long toMillis, TransactionType type) {
+        return new PointHistoryQuery(
+            cursor == null ? 0L : cursor,
+            fromMillis == null ? Long.MIN_VALUE : fromMillis,
+            toMillis == null ? Long.MAX_VALUE : toMillis,
+            type
+        );
+    }
+
+    public boolean matches(long id, long updateMillis, TransactionType type) {
+        return id > cursor
+            && updateMillis >= fromMillis
+            && updateMillis < toMillis
+            && (this.type == null || this.type == type);
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        return matches(pointHistory.id(), pointHistory.updateMillis(), pointHistory.type());
+    }
+}
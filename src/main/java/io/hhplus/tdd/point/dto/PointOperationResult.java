@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 일괄 처리 요청 한 건의 결과
+ * - 성공하면 적용된 직후의 포인트, 실패하면 point 는 null 이고 message 에 실패 이유
+ */
+public record PointOperationResult(
+        long userId,
+        long amount,
+        TransactionType type,
+        boolean success,
+        Long point,
+        String message
+) {
+
+    public static PointOperationResult success(PointOperation operation, UserPoint userPoint) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), true,
+            userPoint.point(), null);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, Throwable e) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), false,
+            null, e.getMessage());
+    }
+}
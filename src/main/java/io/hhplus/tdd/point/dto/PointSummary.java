@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.PointHistory;
+import java.util.List;
+
+/**
+ * 같은 시점의 포인트와 히스토리
+ * - version : 반영된 마지막 히스토리 id, histories 는 version 이하의 히스토리 전체
+ */
+public record PointSummary(
+        long userId,
+        long point,
+        long version,
+        long updateMillis,
+        List<PointHistory> histories
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 송금 결과, 송금 직후 양쪽 유저의 포인트
+ */
+public record PointTransfer(
+        UserPoint from,
+        UserPoint to
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 송금 요청 (보내는 유저는 경로의 id)
+ */
+public record PointTransferRequest(
+        long toUserId,
+        long amount
+) {
+}
@@ -0,0 +1,329 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.validate.PointValidator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 포인트를 메모리의 원자적 cell 에 두고 CAS 로 갱신
+ * - 잔액 검증과 계산은 CAS 루프 안에서 처리하므로 락 없이 여러 코어에서 동시에 진행됨
+ * - 각 변경은 직전 상태를 가리키므로, cell 의 상태는 CAS 가 성공한 순서대로 이어진 변경 목록이 됨
+ * - 테이블 저장은 CAS 이후에 하며, cell 별로 한 스레드가 아직 저장되지 않은 변경을 CAS 순서대로 모아 저널에 남긴 뒤 최신 포인트와 히스토리를 저장
+ * - 요청은 자신의 변경이 테이블에 저장된 뒤에 반환되므로 응답 이후의 조회는 항상 반영된 값을 봄
+ * - 히스토리는 포인트 저장 이후에 기록하므로, 대기열이 가득 찬 경우 포인트를 바꾸기 전에 거절되도록 자리를 먼저 확보
+ * - 저장을 마쳤을 때 더 들어온 변경이 없으면 cell 을 비우고, 다음 요청은 테이블에서 다시 읽어 cell 을 만듦
+ * - 포인트 저장에 실패하면 cell 을 버리고 저장되지 않은 변경을 모두 실패시킴 (다음 요청은 테이블의 값에서 다시 시작)
+ * - 송금은 두 cell 의 persistLock 을 userId 순서로 잡고 양쪽에 CAS 한 뒤, 그 앞에 쌓인 변경을 먼저 저장하고 송금을 한 단위로 저장
+ */
+@Component
+@ConditionalOnProperty(name = "point.engine.mode", havingValue = "cas")
+@RequiredArgsConstructor
+public class CasPointEngine implements PointEngine {
+
+    // 아직 테이블에서 읽지 않은 cell 의 상태
+    private static final State UNLOADED = new State(null, -1L, 0L, null, null);
+    // 비우거나 실패해서 더는 쓰지 않는 cell 의 상태
+    private static final State RETIRED = new State(null, -1L, 0L, null, null);
+
+    private final PointRepository pointRepository;
+    private final PointValidator pointValidator;
+
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        // 적립할 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+        return apply(id, amount, TransactionType.CHARGE);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount) {
+        // 사용할 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+        return apply(id, amount, TransactionType.USE);
+    }
+
+    @Override
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        if (fromId == toId) {
+            throw new IllegalArgumentException("자기 자신에게 송금할 수 없음");
+        }
+        // 보낼 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+
+        pointRepository.reservePointHistory();
+        try {
+            pointRepository.reservePointHistory();
+        } catch (RuntimeException e) {
+            pointRepository.cancelPointHistoryReservation();
+            throw e;
+        }
+
+        while (true) {
+            Cell from = cellOf(fromId);
+            Cell to = cellOf(toId);
+            Cell first = fromId < toId ? from : to;
+            Cell second = fromId < toId ? to : from;
+            first.persistLock.lock();
+            second.persistLock.lock();
+            try {
+                // 락을 잡기 전에 비워진 cell 이면 다시 찾음 (락을 잡은 동안에는 비워지지 않음)
+                if (from.state.get() == RETIRED || to.state.get() == RETIRED) {
+                    continue;
+                }
+                return transfer(fromId, from, toId, to, amount);
+            } finally {
+                second.persistLock.unlock();
+                first.persistLock.unlock();
+            }
+        }
+    }
+
+    // 두 cell 의 persistLock 을 잡은 상태에서 송금 (확보한 히스토리 자리 두 개를 사용)
+    private PointTransfer transfer(long fromId, Cell from, long toId, Cell to, long amount) {
+        State debit;
+        try {
+            debit = update(from, amount, TransactionType.USE);
+        } catch (RuntimeException e) {
+            pointRepository.cancelPointHistoryReservation();
+            pointRepository.cancelPointHistoryReservation();
+            throw e;
+        }
+        State credit = update(to, amount, TransactionType.CHARGE);
+
+        // 송금 앞에 쌓인 변경을 먼저 저장하고, 실패하면 두 cell 을 모두 버림
+        try {
+            commit(fromId, from, debit.previous);
+        } catch (RuntimeException e) {
+            fail(toId, to, credit.previous, unsaved(to, credit.previous), e);
+            cancelTransferReservations();
+            throw e;
+        }
+        try {
+            commit(toId, to, credit.previous);
+        } catch (RuntimeException e) {
+            fail(fromId, from, debit.previous, 0, e);
+            cancelTransferReservations();
+            throw e;
+        }
+
+        PointTransfer transfer;
+        try {
+            transfer = pointRepository.saveReservedTransfer(fromId, debit.userPoint().point(), toId,
+                credit.userPoint().point(), amount);
+        } catch (RuntimeException e) {
+            fail(fromId, from, debit.previous, 0, e);
+            fail(toId, to, credit.previous, 0, e);
+            throw e;
+        }
+
+        from.persistedVersion = debit.version();
+        debit.previous = null;
+        to.persistedVersion = credit.version();
+        credit.previous = null;
+        if (from.state.compareAndSet(debit, RETIRED)) {
+            cells.remove(fromId, from);
+        }
+        if (to.state.compareAndSet(credit, RETIRED)) {
+            cells.remove(toId, to);
+        }
+        return transfer;
+    }
+
+    private void cancelTransferReservations() {
+        pointRepository.cancelPointHistoryReservation();
+        pointRepository.cancelPointHistoryReservation();
+    }
+
+    private UserPoint apply(long id, long amount, TransactionType type) {
+        pointRepository.reservePointHistory();
+        while (true) {
+            Cell cell = cellOf(id);
+            State next;
+            try {
+                next = update(cell, amount, type);
+            } catch (RuntimeException e) {
+                pointRepository.cancelPointHistoryReservation();
+                throw e;
+            }
+
+            // 그 사이 cell 이 비워졌으면 새 cell 에서 다시 시도 (확보한 자리는 그대로 사용)
+            if (next == null) {
+                continue;
+            }
+
+            persist(id, cell, next);
+            return next.userPoint();
+        }
+    }
+
+    // 현재 상태에 변경을 적용해서 CAS, cell 이 비워졌으면 null
+    private State update(Cell cell, long amount, TransactionType type) {
+        while (true) {
+            State current = cell.state.get();
+            if (current == RETIRED) {
+                return null;
+            }
+
+            long point = current.userPoint().point();
+            if (type == TransactionType.USE) {
+                // 포인트를 썼을 때 0 이상인지 체크
+                pointValidator.validateTotalPointAmount(point, amount);
+                point -= amount;
+            } else {
+                point += amount;
+            }
+
+            UserPoint userPoint = new UserPoint(current.userPoint().id(), point, System.currentTimeMillis());
+            State next = new State(userPoint, current.version() + 1, amount, type, current);
+            if (cell.state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    // 자신의 변경이 아직 저장되지 않았으면 그 시점까지 쌓인 변경을 한 번에 저장 (뒤따르던 변경도 같이 반영됨)
+    // (저장 중에 대기하므로 가상 스레드의 carrier 를 붙잡지 않도록 synchronized 대신 ReentrantLock 사용)
+    private void persist(long id, Cell cell, State state) {
+        cell.persistLock.lock();
+        try {
+            if (cell.persistedVersion >= state.version()) {
+                return;
+            }
+            if (cell.failure != null) {
+                // 실패한 묶음에 들어가지 못한 변경은 자신이 확보한 자리를 반납
+                if (state.version() > cell.failedVersion) {
+                    pointRepository.cancelPointHistoryReservation();
+                }
+                throw cell.failure;
+            }
+
+            State latest = cell.state.get();
+            commit(id, cell, latest);
+            if (cell.state.compareAndSet(latest, RETIRED)) {
+                cells.remove(id, cell);
+            }
+        } finally {
+            cell.persistLock.unlock();
+        }
+    }
+
+    // target 까지 저장되지 않은 변경을 CAS 순서대로 모아 한 번에 저장 (persistLock 을 잡은 상태에서 호출)
+    private void commit(long id, Cell cell, State target) {
+        List<PointChange> changes = new ArrayList<>();
+        for (State state = target; state.version() > cell.persistedVersion; state = state.previous) {
+            changes.add(new PointChange(state.amount(), state.type(), state.userPoint().point()));
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        Collections.reverse(changes);
+
+        try {
+            pointRepository.saveReservedPointChanges(id, changes);
+        } catch (RuntimeException e) {
+            // 확보한 자리는 저장소가 반납하거나 사용했으므로 cell 만 버림
+            fail(id, cell, target, 0, e);
+            throw e;
+        }
+
+        cell.persistedVersion = target.version();
+        target.previous = null;
+    }
+
+    // target 까지 아직 저장되지 않은 변경 수
+    private int unsaved(Cell cell, State target) {
+        int count = 0;
+        for (State state = target; state.version() > cell.persistedVersion; state = state.previous) {
+            count++;
+        }
+        return count;
+    }
+
+    // cell 을 버리고 target 까지의 묶음 중 기록하지 못한 히스토리 자리를 반납 (그 뒤의 변경은 각자 반납)
+    private void fail(long id, Cell cell, State target, int unwritten, RuntimeException failure) {
+        cell.failure = failure;
+        cell.failedVersion = target.version();
+        cell.state.set(RETIRED);
+        cells.remove(id, cell);
+        for (int i = 0; i < unwritten; i++) {
+            pointRepository.cancelPointHistoryReservation();
+        }
+    }
+
+    // cell 을 찾거나 만들고, 처음 쓰는 cell 이면 테이블에서 읽어 채움 (조회는 map 잠금 밖에서 수행)
+    // (비워진 cell 을 map 에서 뺀 뒤에 새 cell 을 만들므로, 테이블에는 이전 cell 의 변경이 모두 저장되어 있음)
+    private Cell cellOf(long id) {
+        while (true) {
+            Cell cell = cells.computeIfAbsent(id, key -> new Cell());
+            State state = cell.state.get();
+            if (state == RETIRED) {
+                cells.remove(id, cell);
+                continue;
+            }
+            if (state == UNLOADED) {
+                cell.state.compareAndSet(UNLOADED, new State(pointRepository.findUserPointById(id), 0L, 0L, null, null));
+            }
+            return cell;
+        }
+    }
+
+    /**
+     * cell 의 상태 하나 (CAS 로 적용된 변경과 그 직전 상태)
+     * - previous 는 저장이 끝나면 persistLock 을 잡은 스레드가 끊어서, 저장되지 않은 변경만 이어져 있음
+     */
+    private static final class State {
+
+        private final UserPoint userPoint;
+        private final long version;
+        private final long amount;
+        private final TransactionType type;
+        private State previous;
+
+        State(UserPoint userPoint, long version, long amount, TransactionType type, State previous) {
+            this.userPoint = userPoint;
+            this.version = version;
+            this.amount = amount;
+            this.type = type;
+            this.previous = previous;
+        }
+
+        UserPoint userPoint() {
+            return userPoint;
+        }
+
+        long version() {
+            return version;
+        }
+
+        long amount() {
+            return amount;
+        }
+
+        TransactionType type() {
+            return type;
+        }
+    }
+
+    private static final class Cell {
+
+        private final AtomicReference<State> state = new AtomicReference<>(UNLOADED);
+        private final ReentrantLock persistLock = new ReentrantLock();
+        private long persistedVersion;
+        private long failedVersion;
+        private RuntimeException failure;
+    }
+}
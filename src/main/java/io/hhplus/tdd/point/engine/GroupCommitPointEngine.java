@@ -0,0 +1,325 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validate.PointValidator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 유저의 동시 요청을 모아서 한 번의 테이블 저장으로 처리 (group commit)
+ * - 저장 중인 유저에게 들어온 요청은 대기열에 쌓였다가 다음 저장에 함께 반영됨
+ * - 저장을 맡은 요청(leader)은 대기열을 순서대로 검증하고 히스토리 자리를 확보한 뒤, 요청들의 변경을 저널에 남기고 마지막 포인트와 요청 순서대로 히스토리를 저장
+ *   (저장에 실패하면 그 유저의 포인트는 다음 저장 때 테이블에서 다시 읽음)
+ * - 잔액 부족으로 실패한 요청은 그 요청만 실패하고, 나머지 요청은 그대로 반영됨
+ * - 각 요청은 자신이 적용된 직후의 포인트를 응답받음
+ * - leader 는 자신이 포함된 한 번의 저장만 맡고, 그 사이 쌓인 요청이 있으면 가장 먼저 온 요청에게 넘김
+ * - 쌓인 요청 없이 저장이 끝나면 그 유저의 group 을 비우고, 다음 요청은 새 group 에서 테이블의 포인트를 다시 읽음
+ * - 송금은 두 유저의 대기열에 userId 순서로 차례를 넣고, 양쪽 모두 leader 가 되면 두 포인트를 한 단위로 저장
+ *   (leader 는 차례 앞까지만 모아서 저장하고 차례에게 넘김)
+ * - 저장 횟수와 반영한 요청 수를 point.engine.group_commit 지표로 내보냄
+ */
+@Component
+@ConditionalOnProperty(name = "point.engine.mode", havingValue = "group-commit")
+public class GroupCommitPointEngine implements PointEngine {
+
+    private final PointRepository pointRepository;
+    private final PointValidator pointValidator;
+
+    private final ConcurrentHashMap<Long, Group> groups = new ConcurrentHashMap<>();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    public GroupCommitPointEngine(PointRepository pointRepository, PointValidator pointValidator, PointMetrics pointMetrics) {
+        this.pointRepository = pointRepository;
+        this.pointValidator = pointValidator;
+        pointMetrics.gaugeGroupCommit(this::stats);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        // 적립할 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+        return submit(id, new Request(amount, TransactionType.CHARGE));
+    }
+
+    @Override
+    public UserPoint use(long id, long amount) {
+        // 사용할 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+        return submit(id, new Request(amount, TransactionType.USE));
+    }
+
+    @Override
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        if (fromId == toId) {
+            throw new IllegalArgumentException("자기 자신에게 송금할 수 없음");
+        }
+        // 보낼 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+
+        Request firstTurn = Request.turn();
+        Request secondTurn = Request.turn();
+        Group first = lead(Math.min(fromId, toId), firstTurn);
+        try {
+            Group second = lead(Math.max(fromId, toId), secondTurn);
+            try {
+                return fromId < toId ? transfer(first, second, amount) : transfer(second, first, amount);
+            } finally {
+                release(second, secondTurn);
+            }
+        } finally {
+            release(first, firstTurn);
+        }
+    }
+
+    public GroupCommitStats stats() {
+        return new GroupCommitStats(writes.sum(), requests.sum());
+    }
+
+    private UserPoint submit(long id, Request request) {
+        Group group = enqueue(id, request);
+        group.lock.lock();
+        try {
+            while (!request.done && !request.leader) {
+                group.changed.awaitUninterruptibly();
+            }
+        } finally {
+            group.lock.unlock();
+        }
+
+        if (!request.done) {
+            commit(group);
+        }
+
+        if (request.error != null) {
+            throw request.error;
+        }
+        return request.result;
+    }
+
+    // 유저의 group 대기열에 요청을 넣고, 비워진 group 이면 새 group 에서 다시 시도
+    private Group enqueue(long id, Request request) {
+        while (true) {
+            Group group = groups.computeIfAbsent(id, Group::new);
+            group.lock.lock();
+            try {
+                if (group.retired) {
+                    groups.remove(id, group);
+                    continue;
+                }
+                group.pending.add(request);
+                if (!group.committing) {
+                    group.committing = true;
+                    request.leader = true;
+                }
+                return group;
+            } finally {
+                group.lock.unlock();
+            }
+        }
+    }
+
+    // 대기열에 송금 차례를 넣고 leader 가 될 때까지 기다림
+    private Group lead(long id, Request turn) {
+        Group group = enqueue(id, turn);
+        group.lock.lock();
+        try {
+            while (!turn.leader) {
+                group.changed.awaitUninterruptibly();
+            }
+        } finally {
+            group.lock.unlock();
+        }
+        return group;
+    }
+
+    private void release(Group group, Request turn) {
+        group.lock.lock();
+        try {
+            group.pending.remove(turn);
+        } finally {
+            group.lock.unlock();
+        }
+        handOff(group, List.of(turn));
+    }
+
+    // 두 유저의 leader 인 상태에서 송금을 한 단위로 저장
+    private PointTransfer transfer(Group from, Group to, long amount) {
+        long fromPoint = pointOf(from);
+        long toPoint = pointOf(to);
+        // 보낸 뒤 포인트가 0 이상인지 체크
+        pointValidator.validateTotalPointAmount(fromPoint, amount);
+
+        PointTransfer saved;
+        try {
+            saved = pointRepository.saveTransfer(from.id, fromPoint - amount, to.id, toPoint + amount, amount);
+        } catch (RuntimeException e) {
+            from.point = null;
+            to.point = null;
+            throw e;
+        }
+        from.point = saved.from().point();
+        to.point = saved.to().point();
+        writes.increment();
+        requests.increment();
+        return saved;
+    }
+
+    // leader 가 대기열에 쌓인 요청을 한 번에 반영 (송금 차례가 있으면 그 앞까지만)
+    private void commit(Group group) {
+        List<Request> round = new ArrayList<>();
+        group.lock.lock();
+        try {
+            while (!group.pending.isEmpty() && !group.pending.peek().isTurn()) {
+                round.add(group.pending.poll());
+            }
+        } finally {
+            group.lock.unlock();
+        }
+
+        try {
+            apply(group, round);
+        } catch (RuntimeException e) {
+            round.stream()
+                .filter(request -> request.result == null && request.error == null)
+                .forEach(request -> request.error = e);
+        } finally {
+            handOff(group, round);
+        }
+    }
+
+    // 끝난 요청에 응답하고 다음 요청에게 leader 를 넘김, 쌓인 요청이 없으면 group 을 비움
+    private void handOff(Group group, List<Request> finished) {
+        group.lock.lock();
+        try {
+            finished.forEach(request -> request.done = true);
+            Request next = group.pending.peek();
+            if (next == null) {
+                group.committing = false;
+                group.retired = true;
+                groups.remove(group.id, group);
+            } else {
+                next.leader = true;
+            }
+            group.changed.signalAll();
+        } finally {
+            group.lock.unlock();
+        }
+    }
+
+    // leader 만 호출, 비어 있으면 테이블에서 읽음
+    private long pointOf(Group group) {
+        if (group.point == null) {
+            group.point = pointRepository.findUserPointById(group.id).point();
+        }
+        return group.point;
+    }
+
+    private void apply(Group group, List<Request> round) {
+        long id = group.id;
+        long point = pointOf(group);
+        List<Request> applied = new ArrayList<>(round.size());
+        for (Request request : round) {
+            try {
+                long after = point;
+                if (request.type == TransactionType.USE) {
+                    // 포인트를 썼을 때 0 이상인지 체크
+                    pointValidator.validateTotalPointAmount(point, request.amount);
+                    after -= request.amount;
+                } else {
+                    after += request.amount;
+                }
+
+                // 히스토리 대기열이 가득 차서 거절되는 경우 포인트가 바뀌기 전에 실패하도록 자리를 먼저 확보
+                pointRepository.reservePointHistory();
+                point = after;
+                request.point = after;
+                applied.add(request);
+            } catch (RuntimeException e) {
+                request.error = e;
+            }
+        }
+
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        List<PointChange> changes = new ArrayList<>(applied.size());
+        for (Request request : applied) {
+            changes.add(new PointChange(request.amount, request.type, request.point));
+        }
+
+        UserPoint saved;
+        try {
+            saved = pointRepository.saveReservedPointChanges(id, changes);
+        } catch (RuntimeException e) {
+            // 확보한 자리는 저장소가 반납하거나 사용했으므로, 포인트만 다음 저장 때 다시 읽도록 비움
+            group.point = null;
+            for (Request request : applied) {
+                request.error = e;
+            }
+            return;
+        }
+
+        group.point = point;
+        writes.increment();
+        requests.add(applied.size());
+        for (Request request : applied) {
+            request.result = new UserPoint(id, request.point, saved.updateMillis());
+        }
+    }
+
+    private static final class Group {
+
+        private final long id;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final ArrayDeque<Request> pending = new ArrayDeque<>();
+        private boolean committing;
+        private boolean retired;
+
+        // leader 만 접근
+        private Long point;
+
+        Group(long id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Request {
+
+        private final long amount;
+        private final TransactionType type;
+        private long point;
+        private UserPoint result;
+        private RuntimeException error;
+        private boolean done;
+        private boolean leader;
+
+        Request(long amount, TransactionType type) {
+            this.amount = amount;
+            this.type = type;
+        }
+
+        // 송금이 leader 를 넘겨받기 위해 대기열에 넣는 차례
+        static Request turn() {
+            return new Request(0L, null);
+        }
+
+        boolean isTurn() {
+            return type == null;
+        }
+    }
+}
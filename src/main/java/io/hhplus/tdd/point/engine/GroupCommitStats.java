@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.engine;
+
+public record GroupCommitStats(
+        long writes,
+        long requests
+) {
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.validate.PointValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 락을 잡고 조회 - 검증 - 저장을 순서대로 처리 (기본값)
+ * - 히스토리 대기열 자리를 먼저 확보해서, 거절되면 포인트를 바꾸기 전에 실패 (되돌리지 않음)
+ * - 포인트를 저장한 뒤 히스토리를 기록해서, 요약 조회에는 저장이 끝난 포인트만 보임
+ * - 송금은 두 유저의 락을 함께 잡고 양쪽 포인트와 히스토리를 한 번에 저장
+ */
+@Component
+@ConditionalOnProperty(name = "point.engine.mode", havingValue = "lock", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LockPointEngine implements PointEngine {
+
+    private final PointRepository pointRepository;
+    private final PointValidator pointValidator;
+    private final UserLockManager userLockManager;
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        return userLockManager.withLock(id, () -> {
+            // 적립할 포인트 0 이하인지 체크
+            pointValidator.validatePointAmountBelowZero(amount);
+
+            UserPoint findUserPoint = pointRepository.findUserPointById(id);
+            return save(id, findUserPoint.point() + amount, amount, TransactionType.CHARGE);
+        });
+    }
+
+    @Override
+    public UserPoint use(long id, long amount) {
+        return userLockManager.withLock(id, () -> {
+            // 사용할 포인트 0 이하인지 체크
+            pointValidator.validatePointAmountBelowZero(amount);
+
+            // 포인트를 썼을 때 0 이상인지 체크
+            UserPoint findUserPoint = pointRepository.findUserPointById(id);
+            pointValidator.validateTotalPointAmount(findUserPoint.point(), amount);
+            return save(id, findUserPoint.point() - amount, amount, TransactionType.USE);
+        });
+    }
+
+    @Override
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        if (fromId == toId) {
+            throw new IllegalArgumentException("자기 자신에게 송금할 수 없음");
+        }
+
+        return userLockManager.withLocks(fromId, toId, () -> {
+            // 보낼 포인트 0 이하인지 체크
+            pointValidator.validatePointAmountBelowZero(amount);
+
+            // 보낸 뒤 포인트가 0 이상인지 체크
+            UserPoint from = pointRepository.findUserPointById(fromId);
+            pointValidator.validateTotalPointAmount(from.point(), amount);
+            UserPoint to = pointRepository.findUserPointById(toId);
+
+            return pointRepository.saveTransfer(fromId, from.point() - amount, toId, to.point() + amount, amount);
+        });
+    }
+
+    // 히스토리 자리를 확보한 뒤에 저널에 남기고 포인트를 저장한 다음 히스토리를 기록 (히스토리 기록 시점에 요약 버전이 바뀌므로 저장된 포인트만 요약에 보임)
+    // 대기열이 가득 차거나 writer 가 종료되어 거절되면 포인트를 바꾸기 전에 실패
+    private UserPoint save(long id, long point, long amount, TransactionType type) {
+        pointRepository.reservePointHistory();
+        return pointRepository.saveReservedPointChange(id, point, amount, type);
+    }
+}
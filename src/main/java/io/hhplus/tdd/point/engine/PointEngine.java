@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.UserPoint;
+
+/**
+ * 포인트 충전/사용을 실제로 처리하는 실행 방식
+ * - point.engine.mode 설정으로 구현체를 선택
+ * - 송금은 구현체마다 자신의 직렬화 방식(유저 락, cell 락, shard 스레드, group leader)으로 두 유저를 userId 순서로 잡아서 처리
+ */
+public interface PointEngine {
+
+    UserPoint charge(long id, long amount);
+
+    UserPoint use(long id, long amount);
+
+    PointTransfer transfer(long fromId, long toId, long amount);
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.engine;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.engine.shard")
+public record ShardEngineProperties(
+        @DefaultValue("8") int count,
+        @DefaultValue("10000") int mailboxCapacity,
+        @DefaultValue("256") int batchSize
+) {
+
+    public ShardEngineProperties {
+        if (count < 1 || mailboxCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("point.engine.shard 의 count, mailbox-capacity, batch-size 는 1 이상이어야 함");
+        }
+    }
+}
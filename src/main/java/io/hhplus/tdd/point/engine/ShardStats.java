@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.engine;
+
+public record ShardStats(
+        int shard,
+        int queueDepth,
+        long processed,
+        long batches,
+        long writes,
+        long totalServiceNanos
+) {
+}
@@ -0,0 +1,395 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validate.PointValidator;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * userId 해시로 정해진 shard 의 단일 스레드가 해당 유저들의 포인트를 전담해서 처리
+ * - shard 스레드만 자기 유저의 상태를 읽고 쓰므로 락이 필요 없음
+ * - 메일박스를 배치 단위로 꺼내서 처리하고, 배치 안에서 같은 유저에 대한 변경은 한 번의 테이블 저장으로 합침
+ * - 각 요청은 자신이 적용된 직후의 포인트를 응답받고, 히스토리도 요청마다 따로 기록됨
+ * - 히스토리 자리는 상태를 바꾸기 전에 확보하고, 히스토리는 포인트를 저장한 뒤에 요청 순서대로 기록
+ *   (포인트 저장에 실패하면 확보한 자리를 반납하고, 그 유저의 상태는 다음 요청 때 테이블에서 다시 읽음)
+ * - shard 가 들고 있는 유저 상태는 메일박스에 그 유저의 작업이 남아 있는 동안만 유지하고, 마지막 작업이 끝나면 비움
+ *   (한 번 요청한 유저가 계속 쌓이지 않고, 다음 요청은 저장소에서 마지막으로 커밋된 포인트를 다시 읽음)
+ * - 송금은 두 유저 중 index 가 작은 shard 에 넣고, 다른 shard 의 유저면 그 shard 스레드를 멈춰 세운 뒤 두 shard 의 상태를 함께 바꿈
+ *   (항상 index 가 작은 shard 가 큰 shard 를 기다리므로 서로 기다리는 일이 없음)
+ * - shard 별 메일박스 크기, 처리한 요청 수, 배치 수, 저장 횟수, 배치 처리 시간을 point.engine.shard 지표로 내보냄
+ */
+@Component
+@ConditionalOnProperty(name = "point.engine.mode", havingValue = "shard")
+public class ShardedPointEngine implements PointEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedPointEngine.class);
+
+    private final PointRepository pointRepository;
+    private final PointValidator pointValidator;
+    private final Shard[] shards;
+    private volatile boolean running = true;
+
+    public ShardedPointEngine(
+            PointRepository pointRepository,
+            PointValidator pointValidator,
+            ShardEngineProperties properties,
+            PointMetrics pointMetrics
+    ) {
+        this.pointRepository = pointRepository;
+        this.pointValidator = pointValidator;
+        this.shards = new Shard[properties.count()];
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = new Shard(i, properties);
+            shards[i] = shard;
+            shard.thread.start();
+            pointMetrics.gaugeShard(i, shard::stats);
+        }
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        // 적립할 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+        Command command = new Command(id, amount, TransactionType.CHARGE);
+        return submit(shardOf(id), command, command.result());
+    }
+
+    @Override
+    public UserPoint use(long id, long amount) {
+        // 사용할 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+        Command command = new Command(id, amount, TransactionType.USE);
+        return submit(shardOf(id), command, command.result());
+    }
+
+    @Override
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        if (fromId == toId) {
+            throw new IllegalArgumentException("자기 자신에게 송금할 수 없음");
+        }
+        // 보낼 포인트 0 이하인지 체크
+        pointValidator.validatePointAmountBelowZero(amount);
+
+        Shard from = shardOf(fromId);
+        Shard to = shardOf(toId);
+        Transfer transfer = new Transfer(fromId, toId, amount);
+        return submit(from.index <= to.index ? from : to, transfer, transfer.result());
+    }
+
+    public List<ShardStats> stats() {
+        List<ShardStats> stats = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            stats.add(shard.stats());
+        }
+
+        return stats;
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Shard shardOf(long id) {
+        return shards[Math.floorMod(Long.hashCode(id * 0x9E3779B97F4A7C15L), shards.length)];
+    }
+
+    private <T> T submit(Shard shard, Task task, CompletableFuture<T> result) {
+        if (!running) {
+            throw new RejectedExecutionException("포인트 shard 가 종료됨");
+        }
+
+        queued(task, 1);
+        try {
+            shard.mailbox.put(task);
+        } catch (InterruptedException e) {
+            // 넣지 못한 작업의 수만 되돌림 (남은 상태는 그 유저의 다음 작업이 끝날 때 비워짐)
+            queued(task, -1);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("포인트 shard 메일박스 대기 중 인터럽트", e);
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 작업이 건드리는 유저별로 메일박스에 남은 작업 수를 바꿈 (넣기 전에 올리고, 작업이 끝나면 Shard.finish 에서 내림)
+    private void queued(Task task, int delta) {
+        if (task instanceof Command command) {
+            shardOf(command.id()).queued.merge(command.id(), delta, ShardedPointEngine::sum);
+        } else if (task instanceof Transfer transfer) {
+            shardOf(transfer.fromId()).queued.merge(transfer.fromId(), delta, ShardedPointEngine::sum);
+            shardOf(transfer.toId()).queued.merge(transfer.toId(), delta, ShardedPointEngine::sum);
+        }
+    }
+
+    // 0 이 되면 항목을 지움
+    private static Integer sum(Integer count, Integer delta) {
+        int sum = count + delta;
+        return sum == 0 ? null : sum;
+    }
+
+    // shard 메일박스에 들어가는 작업
+    private interface Task {
+    }
+
+    private record Command(long id, long amount, TransactionType type, CompletableFuture<UserPoint> result)
+            implements Task {
+
+        Command(long id, long amount, TransactionType type) {
+            this(id, amount, type, new CompletableFuture<>());
+        }
+    }
+
+    private record Transfer(long fromId, long toId, long amount, CompletableFuture<PointTransfer> result)
+            implements Task {
+
+        Transfer(long fromId, long toId, long amount) {
+            this(fromId, toId, amount, new CompletableFuture<>());
+        }
+    }
+
+    // 송금을 처리하는 shard 가 다른 shard 에 넣는 작업, 받은 shard 는 쌓인 변경을 저장하고 송금이 끝날 때까지 멈춤
+    private record Join(CountDownLatch ready, CountDownLatch done) implements Task {
+
+        Join() {
+            this(new CountDownLatch(1), new CountDownLatch(1));
+        }
+    }
+
+    // 배치 안에서 요청별로 적용된 결과, 테이블 저장이 끝난 뒤에 응답
+    private record Applied(Command command, long point) {
+    }
+
+    private final class Shard {
+
+        private final int index;
+        private final int batchSize;
+        private final BlockingQueue<Task> mailbox;
+        private final Thread thread;
+
+        // shard 스레드만 접근 (송금 중에는 이 shard 를 멈춰 세운 스레드), 메일박스에 작업이 남은 유저만 들고 있음
+        private final Map<Long, Long> points = new HashMap<>();
+        // 유저별로 메일박스에 들어갔지만 아직 끝나지 않은 작업 수
+        private final ConcurrentHashMap<Long, Integer> queued = new ConcurrentHashMap<>();
+
+        private volatile long processed;
+        private volatile long batches;
+        private volatile long writes;
+        private volatile long totalServiceNanos;
+
+        Shard(int index, ShardEngineProperties properties) {
+            this.index = index;
+            this.batchSize = properties.batchSize();
+            this.mailbox = new LinkedBlockingQueue<>(properties.mailboxCapacity());
+            this.thread = new Thread(this::run, "point-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        ShardStats stats() {
+            return new ShardStats(index, mailbox.size(), processed, batches, writes, totalServiceNanos);
+        }
+
+        private void run() {
+            List<Task> batch = new ArrayList<>(batchSize);
+            while (running || !mailbox.isEmpty()) {
+                try {
+                    Task first = mailbox.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    mailbox.drainTo(batch, batchSize - 1);
+
+                    processed += batch.size();
+                    batches++;
+                    long start = System.nanoTime();
+                    process(batch);
+                    totalServiceNanos += System.nanoTime() - start;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void process(List<Task> batch) throws InterruptedException {
+            Map<Long, List<Applied>> appliedByUser = new LinkedHashMap<>();
+            for (Task task : batch) {
+                if (task instanceof Command command) {
+                    try {
+                        long point = apply(command);
+                        appliedByUser.computeIfAbsent(command.id(), id -> new ArrayList<>())
+                            .add(new Applied(command, point));
+                    } catch (RuntimeException e) {
+                        finish(command.id());
+                        command.result().completeExceptionally(e);
+                    }
+                    continue;
+                }
+
+                // 송금과 Join 앞에 쌓인 변경은 먼저 저장
+                flush(appliedByUser);
+                if (task instanceof Transfer transfer) {
+                    transfer(transfer);
+                } else if (task instanceof Join join) {
+                    join.ready().countDown();
+                    join.done().await();
+                }
+            }
+
+            flush(appliedByUser);
+        }
+
+        // 유저별로 마지막 포인트만 한 번 저장하고, 배치에 포함된 요청에 각자의 결과로 응답
+        private void flush(Map<Long, List<Applied>> appliedByUser) {
+            appliedByUser.forEach(this::save);
+            appliedByUser.clear();
+        }
+
+        // 다른 shard 의 유저면 그 shard 를 멈춰 세우고 (index 가 더 큰 shard 만 기다림) 두 유저의 상태를 함께 바꿈
+        private void transfer(Transfer transfer) throws InterruptedException {
+            Shard other = shardOf(transfer.fromId()) == this ? shardOf(transfer.toId()) : shardOf(transfer.fromId());
+            Join join = null;
+            if (other != this) {
+                join = new Join();
+                other.mailbox.put(join);
+                // 종료 중이라 이미 끝난 shard 면 그 상태를 건드리는 스레드가 없으므로 그대로 진행
+                while (!join.ready().await(100, TimeUnit.MILLISECONDS)) {
+                    if (!other.thread.isAlive()) {
+                        break;
+                    }
+                }
+            }
+
+            PointTransfer saved = null;
+            RuntimeException failure = null;
+            try {
+                Map<Long, Long> fromPoints = shardOf(transfer.fromId()).points;
+                Map<Long, Long> toPoints = shardOf(transfer.toId()).points;
+                long from = fromPoints.computeIfAbsent(transfer.fromId(), id -> pointRepository.findUserPointById(id).point());
+                long to = toPoints.computeIfAbsent(transfer.toId(), id -> pointRepository.findUserPointById(id).point());
+                // 보낸 뒤 포인트가 0 이상인지 체크
+                pointValidator.validateTotalPointAmount(from, transfer.amount());
+
+                try {
+                    saved = pointRepository.saveTransfer(transfer.fromId(), from - transfer.amount(), transfer.toId(),
+                        to + transfer.amount(), transfer.amount());
+                } catch (RuntimeException e) {
+                    fromPoints.remove(transfer.fromId());
+                    toPoints.remove(transfer.toId());
+                    throw e;
+                }
+                writes++;
+                fromPoints.put(transfer.fromId(), saved.from().point());
+                toPoints.put(transfer.toId(), saved.to().point());
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                // 다른 shard 의 상태도 그 shard 가 멈춰 있는 동안 비움
+                shardOf(transfer.fromId()).finish(transfer.fromId());
+                shardOf(transfer.toId()).finish(transfer.toId());
+                if (join != null) {
+                    join.done().countDown();
+                }
+            }
+
+            // 응답은 상태를 정리한 뒤에 (응답을 받은 요청자가 바로 다음 요청을 보내도 비운 상태에서 시작)
+            if (failure != null) {
+                transfer.result().completeExceptionally(failure);
+            } else {
+                transfer.result().complete(saved);
+            }
+        }
+
+        // 요청 순서대로 변경을 모아 한 번에 저장 (저널에 먼저 남김), 요청마다 finish 한 뒤에 응답
+        private void save(long id, List<Applied> applied) {
+            List<PointChange> changes = new ArrayList<>(applied.size());
+            for (Applied each : applied) {
+                changes.add(new PointChange(each.command().amount(), each.command().type(), each.point()));
+            }
+
+            UserPoint saved;
+            try {
+                saved = pointRepository.saveReservedPointChanges(id, changes);
+                writes++;
+            } catch (RuntimeException e) {
+                // 확보한 자리는 저장소가 반납하거나 사용했으므로, 상태만 버리고 실패로 응답
+                log.error("포인트 저장 실패: id={}", id, e);
+                points.remove(id);
+                for (Applied each : applied) {
+                    finish(id);
+                    each.command().result().completeExceptionally(e);
+                }
+                return;
+            }
+
+            for (Applied each : applied) {
+                finish(id);
+                each.command().result().complete(new UserPoint(id, each.point(), saved.updateMillis()));
+            }
+        }
+
+        // 유저의 작업 하나가 끝남, 메일박스에 그 유저의 작업이 더 없으면 상태를 비움 (변경이 모두 저장된 뒤에만 호출)
+        private void finish(long id) {
+            if (queued.computeIfPresent(id, (key, count) -> sum(count, -1)) == null) {
+                points.remove(id);
+            }
+        }
+
+        // 요청 하나를 메모리 상태에 적용, 검증에 실패하면 상태를 바꾸지 않고 예외
+        private long apply(Command command) {
+            long before = points.computeIfAbsent(command.id(), id -> pointRepository.findUserPointById(id).point());
+            long after;
+            if (command.type() == TransactionType.USE) {
+                // 포인트를 썼을 때 0 이상인지 체크
+                pointValidator.validateTotalPointAmount(before, command.amount());
+                after = before - command.amount();
+            } else {
+                after = before + command.amount();
+            }
+
+            // 히스토리 대기열이 가득 차서 거절되는 경우 상태가 바뀌기 전에 실패하도록 자리를 먼저 확보
+            pointRepository.reservePointHistory();
+            points.put(command.id(), after);
+            return after;
+        }
+    }
+}
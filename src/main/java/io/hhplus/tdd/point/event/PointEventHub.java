@@ -0,0 +1,304 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointEvent;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.summary.PointVersion;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 유저별 포인트 변경을 SSE 구독자에게 전달
+ * - UserPointVersions 에 새 버전이 만들어질 때 (충전, 사용, 송금) 그 유저의 구독자에게 현재 포인트와 히스토리를 보냄
+ * - 변경하는 스레드는 유저의 대기 이벤트를 CAS 로 바꾸고 나눠주는 작업을 예약만 함 (구독자 수와 관계없이 일정)
+ *   - 구독자마다 나눠주고 보내는 일은 전달 스레드에서
+ *   - 구독자가 없는 유저는 맵 조회 한 번으로 끝남
+ * - 구독자마다 대기 이벤트는 하나뿐이라, 느린 구독자는 중간 변경을 건너뛰고 가장 최근 포인트를 받음 (point.events.coalesced)
+ *   - 버전이 더 낮은 이벤트는 보내지 않으므로 받는 포인트는 항상 최신 방향으로만 바뀜
+ *   - 건너뛴 히스토리는 /histories/page 의 cursor 로 이어서 조회 가능 (이벤트 id 가 히스토리 id)
+ * - 구독하면 현재 포인트를 먼저 보냄, 전송이 실패하거나 시간이 지나면 구독 해제
+ * - 전달 스레드 수가 정해져 있으므로, 한 번 보내는 데 sendTimeoutMillis 를 넘긴 구독자는 끊음
+ *   - heartbeat 스레드가 sendTimeoutMillis 주기로 보내는 중인 구독자를 확인해서, 넘긴 구독은 해제하고 보내던 스레드를 interrupt
+ *   - 보내던 스레드는 send 가 끝나는 대로 emitter 를 에러로 완료 (emitter 는 send 가 끝나야 완료할 수 있음)
+ *   - 그래서 느린 구독자 하나가 전달 스레드를 잡고 있는 시간은 interrupt 에 반응하는 한 대략 sendTimeoutMillis 의 두 배 안쪽
+ */
+@Component
+public class PointEventHub {
+
+    private static final String EVENT_NAME = "point";
+
+    private final UserPointVersions userPointVersions;
+    private final PointMetrics pointMetrics;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ExecutorService delivery;
+    private final ScheduledExecutorService heartbeat;
+
+    private final ConcurrentHashMap<Long, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public PointEventHub(UserPointVersions userPointVersions, PointEventProperties properties, PointMetrics pointMetrics) {
+        this.userPointVersions = userPointVersions;
+        this.pointMetrics = pointMetrics;
+        this.maxSubscribers = properties.maxSubscribers();
+        this.timeoutMillis = properties.timeoutMillis();
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.sendTimeoutMillis());
+        this.delivery = Executors.newFixedThreadPool(properties.deliveryThreads(), new CustomizableThreadFactory("point-events-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("point-events-heartbeat-"));
+        heartbeat.scheduleWithFixedDelay(this::heartbeat, properties.heartbeatMillis(), properties.heartbeatMillis(),
+            TimeUnit.MILLISECONDS);
+        heartbeat.scheduleWithFixedDelay(this::expireSlowSends, properties.sendTimeoutMillis(), properties.sendTimeoutMillis(),
+            TimeUnit.MILLISECONDS);
+        pointMetrics.gaugeEventSubscribers(subscriberCount::get);
+        userPointVersions.addListener(this::publish);
+    }
+
+    public SseEmitter subscribe(long userId) {
+        return subscribe(userId, new SseEmitter(timeoutMillis));
+    }
+
+    // 구독자가 너무 많으면 RejectedExecutionException
+    public SseEmitter subscribe(long userId, SseEmitter emitter) {
+        if (userId < 1L) {
+            throw new IllegalArgumentException("유효하지 않은 id 값");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new RejectedExecutionException("포인트 변경 구독자 수 초과: " + maxSubscribers);
+        }
+
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        topics.compute(userId, (id, topic) -> {
+            Topic current = topic == null ? new Topic() : topic;
+            current.subscribers.add(subscriber);
+            return current;
+        });
+
+        // 등록한 뒤의 버전을 보내므로, 그 사이에 온 변경이 있어도 더 높은 버전이 남음
+        PointVersion version = userPointVersions.get(userId);
+        subscriber.offer(new PointEvent(version.version(),
+            new UserPoint(userId, version.point(), version.updateMillis()), null));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        heartbeat.shutdownNow();
+        delivery.shutdownNow();
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void publish(PointVersion version, PointHistory pointHistory) {
+        Topic topic = topics.get(version.userId());
+        if (topic != null) {
+            topic.offer(new PointEvent(version.version(),
+                new UserPoint(version.userId(), version.point(), version.updateMillis()), pointHistory));
+        }
+    }
+
+    private void heartbeat() {
+        topics.values().forEach(topic -> topic.subscribers.forEach(Subscriber::ping));
+    }
+
+    private void expireSlowSends() {
+        long now = System.nanoTime();
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.expireIfSlow(now)));
+    }
+
+    private void remove(Subscriber subscriber) {
+        topics.computeIfPresent(subscriber.userId, (id, topic) -> {
+            topic.subscribers.remove(subscriber);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    // 버전이 더 높은 이벤트만 남김, 덮어쓴 이벤트가 있었으면 true
+    private static boolean keepLatest(AtomicReference<PointEvent> slot, PointEvent event) {
+        return slot.getAndAccumulate(event,
+            (current, next) -> current == null || next.version() > current.version() ? next : current) != null;
+    }
+
+    /**
+     * 한 유저의 구독자 목록
+     * - pending : 아직 구독자에게 나눠주지 않은 가장 높은 버전의 이벤트
+     * - scheduled : 나눠주는 작업이 예약되어 있는지
+     */
+    private final class Topic {
+
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final AtomicReference<PointEvent> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void offer(PointEvent event) {
+            if (keepLatest(pending, event)) {
+                pointMetrics.countEventCoalesced();
+            }
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                delivery.execute(this::fanOut);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                scheduled.set(false);
+            }
+        }
+
+        // 끝내기 직전에 들어온 이벤트는 직접 이어서 나눠줌
+        private void fanOut() {
+            do {
+                PointEvent event = pending.getAndSet(null);
+                if (event != null) {
+                    for (Subscriber subscriber : subscribers) {
+                        subscriber.offer(event);
+                    }
+                }
+                scheduled.set(false);
+            } while (pending.get() != null && scheduled.compareAndSet(false, true));
+        }
+    }
+
+    /**
+     * 구독 하나
+     * - pending : 아직 보내지 않은 가장 높은 버전의 이벤트 (하나만 들고 있음)
+     * - scheduled : 전달 작업이 예약되어 있는지 (구독자마다 전달 작업은 하나만, 그래서 같은 emitter 에 동시에 보내지 않음)
+     * - sender, sendStartedNanos : 지금 보내는 중인 스레드와 시작 시각 (sendLock 안에서만 읽고 씀)
+     */
+    private final class Subscriber {
+
+        private final long userId;
+        private final SseEmitter emitter;
+        private final AtomicReference<PointEvent> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean pingRequested = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Object sendLock = new Object();
+        private Thread sender;
+        private long sendStartedNanos;
+        private boolean expired;
+        private long lastSent = -1L;
+
+        Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(PointEvent event) {
+            if (keepLatest(pending, event)) {
+                pointMetrics.countEventCoalesced();
+            }
+            schedule();
+        }
+
+        void ping() {
+            pingRequested.set(true);
+            schedule();
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+            }
+        }
+
+        // 보내는 데 sendTimeoutNanos 를 넘겼으면 구독을 해제하고 보내던 스레드를 깨움 (emitter 완료는 보내던 스레드가 함)
+        void expireIfSlow(long now) {
+            synchronized (sendLock) {
+                if (sender == null || now - sendStartedNanos < sendTimeoutNanos) {
+                    return;
+                }
+                expired = true;
+                sender.interrupt();
+            }
+            close();
+        }
+
+        private void schedule() {
+            if (closed.get() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                scheduled.set(false);
+            }
+        }
+
+        // 대기 중인 이벤트가 없을 때까지 보냄, 끝내기 직전에 들어온 이벤트는 직접 다시 예약
+        private void drain() {
+            while (true) {
+                try {
+                    PointEvent event = pending.getAndSet(null);
+                    if (event != null && event.version() > lastSent) {
+                        send(SseEmitter.event()
+                            .id(String.valueOf(event.version()))
+                            .name(EVENT_NAME)
+                            .data(event, MediaType.APPLICATION_JSON));
+                        lastSent = event.version();
+                        pingRequested.set(false);
+                        pointMetrics.countEventDelivered();
+                    } else if (pingRequested.getAndSet(false)) {
+                        send(SseEmitter.event().comment("ping"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                }
+
+                scheduled.set(false);
+                if ((pending.get() == null && !pingRequested.get()) || closed.get() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        // 보내는 동안 sender 를 남겨 두고, 끝나면 watchdog 이 걸어 둔 interrupt 를 지운 뒤 시간을 넘겼으면 실패로 처리
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (sendLock) {
+                sender = Thread.currentThread();
+                sendStartedNanos = System.nanoTime();
+            }
+            boolean timedOut;
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (sendLock) {
+                    sender = null;
+                    Thread.interrupted();
+                    timedOut = expired;
+                }
+            }
+            if (timedOut) {
+                throw new IOException("포인트 변경 전송 시간 초과: userId=" + userId);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 변경 SSE 설정
+ * - timeoutMillis : 구독 하나의 최대 유지 시간 (지나면 끊기고 클라이언트가 다시 연결)
+ * - heartbeatMillis : 이벤트가 없어도 이 주기로 주석을 보내서 끊긴 연결을 정리
+ * - sendTimeoutMillis : 구독자 한 명에게 한 번 보내는 데 걸릴 수 있는 최대 시간 (넘기면 그 구독을 끊음)
+ */
+@ConfigurationProperties("point.events")
+public record PointEventProperties(
+        @DefaultValue("10000") int maxSubscribers,
+        @DefaultValue("4") int deliveryThreads,
+        @DefaultValue("1800000") long timeoutMillis,
+        @DefaultValue("15000") long heartbeatMillis,
+        @DefaultValue("5000") long sendTimeoutMillis
+) {
+
+    public PointEventProperties {
+        if (maxSubscribers < 1 || deliveryThreads < 1 || timeoutMillis < 1 || heartbeatMillis < 1 || sendTimeoutMillis < 1) {
+            throw new IllegalArgumentException("point.events 의 max-subscribers, delivery-threads, timeout-millis, heartbeat-millis, "
+                + "send-timeout-millis 는 1 이상이어야 함");
+        }
+    }
+}
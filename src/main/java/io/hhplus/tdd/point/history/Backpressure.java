@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.history;
+
+/**
+ * 히스토리 쓰기 대기열이 가득 찼을 때의 동작
+ * - BLOCK : 자리가 날 때까지 요청 스레드가 대기
+ * - FAIL_FAST : 바로 RejectedExecutionException 으로 거절
+ */
+public enum Backpressure {
+    BLOCK, FAIL_FAST
+}
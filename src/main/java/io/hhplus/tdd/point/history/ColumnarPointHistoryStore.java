@@ -0,0 +1,238 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.TransactionType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 포인트 히스토리를 컬럼 단위로 압축해서 저장
+ * - 유저마다 CHUNK_SIZE 건씩 chunk 로 나누고, chunk 안에서는 필드별로 따로 저장
+ *   - id, updateMillis : 직전 값과의 차이를 zigzag varint 로 (유저별 id 는 증가하고 시간도 거의 증가하므로 대부분 1~2 byte)
+ *   - amount : zigzag varint
+ *   - type : 한 건당 TYPE_BITS 비트로 long 배열에 채움
+ * - 가득 찬 chunk 는 배열을 실제 길이로 잘라서 더 이상 바꾸지 않음
+ * - PointHistory 객체는 조회할 때 조건에 맞는 항목만 만들고, 저장할 때 받은 객체는 들고 있지 않음
+ * - cursor 조회는 마지막 id 가 cursor 이하인 chunk 를 디코딩하지 않고 건너뜀
+ * - 조회는 chunk 목록과 마지막 chunk 의 길이만 락 안에서 읽고 디코딩은 락 밖에서 함
+ *   (append 는 길이 뒤쪽에만 쓰고 배열이 커지면 새 배열로 바꾸므로, 읽은 길이까지는 바뀌지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "columnar")
+public class ColumnarPointHistoryStore implements PointHistoryStore {
+
+    static final int CHUNK_SIZE = 128;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int TYPE_BITS = Math.max(1, 32 - Integer.numberOfLeadingZeros(TYPES.length - 1));
+    private static final long TYPE_MASK = (1L << TYPE_BITS) - 1;
+
+    private final ConcurrentHashMap<Long, UserHistory> histories = new ConcurrentHashMap<>();
+
+    @Override
+    public void append(PointHistory pointHistory) {
+        histories.computeIfAbsent(pointHistory.userId(), userId -> new UserHistory())
+            .append(pointHistory);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+
+        List<PointHistory> found = new ArrayList<>(userHistory.size());
+        userHistory.scan(userId, PointHistoryQuery.all(), found::add);
+        return List.copyOf(found);
+    }
+
+    @Override
+    public void scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory != null) {
+            userHistory.scan(userId, query, visitor);
+        }
+    }
+
+    /**
+     * 한 유저의 히스토리 (chunk 목록)
+     */
+    private static final class UserHistory {
+
+        private Chunk[] sealed = new Chunk[0];
+        private Chunk active = new Chunk();
+
+        synchronized void append(PointHistory pointHistory) {
+            if (active.count == CHUNK_SIZE) {
+                sealed = Arrays.copyOf(sealed, sealed.length + 1);
+                sealed[sealed.length - 1] = active.trimmed();
+                active = new Chunk();
+            }
+            active.append(pointHistory);
+        }
+
+        synchronized int size() {
+            return sealed.length * CHUNK_SIZE + active.count;
+        }
+
+        void scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+            Chunk[] chunks;
+            Chunk last;
+            synchronized (this) {
+                chunks = sealed;
+                last = active.view();
+            }
+
+            for (Chunk chunk : chunks) {
+                if (chunk.lastId > query.cursor() && !chunk.scan(userId, query, visitor)) {
+                    return;
+                }
+            }
+            last.scan(userId, query, visitor);
+        }
+    }
+
+    /**
+     * CHUNK_SIZE 건 이하의 히스토리 컬럼
+     */
+    private static final class Chunk {
+
+        private byte[] ids;
+        private byte[] millis;
+        private byte[] amounts;
+        private long[] types;
+        private int idsLength;
+        private int millisLength;
+        private int amountsLength;
+        private int count;
+
+        // 인코딩용 직전 값 (chunk 마다 0 에서 시작), lastId 는 chunk 를 건너뛸 때도 사용
+        private long lastId;
+        private long lastMillis;
+
+        Chunk() {
+            this.ids = new byte[16];
+            this.millis = new byte[16];
+            this.amounts = new byte[16];
+            this.types = new long[(CHUNK_SIZE * TYPE_BITS + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        private Chunk(Chunk source, boolean trim) {
+            this.ids = trim ? Arrays.copyOf(source.ids, source.idsLength) : source.ids;
+            this.millis = trim ? Arrays.copyOf(source.millis, source.millisLength) : source.millis;
+            this.amounts = trim ? Arrays.copyOf(source.amounts, source.amountsLength) : source.amounts;
+            this.types = source.types;
+            this.idsLength = source.idsLength;
+            this.millisLength = source.millisLength;
+            this.amountsLength = source.amountsLength;
+            this.count = source.count;
+            this.lastId = source.lastId;
+            this.lastMillis = source.lastMillis;
+        }
+
+        // 더 이상 append 하지 않는 chunk, 배열을 실제 길이로 자름
+        Chunk trimmed() {
+            return new Chunk(this, true);
+        }
+
+        // 현재 길이까지만 읽는 chunk (배열은 공유)
+        Chunk view() {
+            return new Chunk(this, false);
+        }
+
+        void append(PointHistory pointHistory) {
+            ids = ensure(ids, idsLength);
+            idsLength = writeVarint(ids, idsLength, zigzag(pointHistory.id() - lastId));
+            millis = ensure(millis, millisLength);
+            millisLength = writeVarint(millis, millisLength, zigzag(pointHistory.updateMillis() - lastMillis));
+            amounts = ensure(amounts, amountsLength);
+            amountsLength = writeVarint(amounts, amountsLength, zigzag(pointHistory.amount()));
+
+            long bit = (long) count * TYPE_BITS;
+            types[(int) (bit >>> 6)] |= (pointHistory.type().ordinal() & TYPE_MASK) << (bit & 63);
+
+            lastId = pointHistory.id();
+            lastMillis = pointHistory.updateMillis();
+            count++;
+        }
+
+        // visitor 가 false 를 반환하면 false
+        boolean scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+            int idPosition = 0;
+            int millisPosition = 0;
+            int amountPosition = 0;
+            long id = 0;
+            long updateMillis = 0;
+            for (int i = 0; i < count; i++) {
+                long value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = ids[idPosition++];
+                    value |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                id += unzigzag(value);
+
+                value = 0;
+                shift = 0;
+                do {
+                    b = millis[millisPosition++];
+                    value |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                updateMillis += unzigzag(value);
+
+                value = 0;
+                shift = 0;
+                do {
+                    b = amounts[amountPosition++];
+                    value |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                long bit = (long) i * TYPE_BITS;
+                TransactionType type = TYPES[(int) ((types[(int) (bit >>> 6)] >>> (bit & 63)) & TYPE_MASK)];
+
+                if (query.matches(id, updateMillis, type)
+                    && !visitor.test(new PointHistory(id, userId, unzigzag(value), type, updateMillis))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        // varint 최대 길이(10 byte) 만큼 여유가 없으면 두 배로 늘림
+        private static byte[] ensure(byte[] column, int length) {
+            if (column.length - length >= 10) {
+                return column;
+            }
+            return Arrays.copyOf(column, Math.max(column.length * 2, length + 10));
+        }
+
+        private static int writeVarint(byte[] column, int position, long value) {
+            while ((value & ~0x7FL) != 0) {
+                column[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            column[position++] = (byte) value;
+            return position;
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 포인트 히스토리 인덱스
+ * - 히스토리 저장 시점에 유저별 배열에 append 만 하고, 조회 시에는 해당 유저의 항목만 복사해서 반환
+ * - 조회 비용은 전체 히스토리가 아니라 해당 유저의 히스토리 건수에 비례
+ * - 조회는 락 없이 동작하므로 쓰기와 동시에 실행되어도 안전함
+ * - 히스토리마다 PointHistory 객체를 그대로 들고 있음 (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "object", matchIfMissing = true)
+public class PointHistoryIndex implements PointHistoryStore {
+
+    private final ConcurrentHashMap<Long, UserHistory> index = new ConcurrentHashMap<>();
+
+    @Override
+    public void append(PointHistory pointHistory) {
+        index.computeIfAbsent(pointHistory.userId(), userId -> new UserHistory())
+            .append(pointHistory);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserHistory userHistory = index.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+
+        return userHistory.snapshot();
+    }
+
+    @Override
+    public void scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        UserHistory userHistory = index.get(userId);
+        if (userHistory != null) {
+            userHistory.scan(query, visitor);
+        }
+    }
+
+    /**
+     * 한 유저의 히스토리
+     * - 쓰기는 synchronized 로 직렬화하고, 배열에 값을 채운 뒤 size 를 늘려서 공개
+     * - 읽기는 size 를 먼저 읽고 배열을 읽기 때문에 항상 채워진 구간만 보게 됨
+     */
+    private static final class UserHistory {
+
+        private volatile PointHistory[] entries = new PointHistory[8];
+        private volatile int size;
+
+        synchronized void append(PointHistory pointHistory) {
+            PointHistory[] current = entries;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+                entries = current;
+            }
+            current[size] = pointHistory;
+            size = size + 1;
+        }
+
+        List<PointHistory> snapshot() {
+            int count = size;
+            return List.of(Arrays.copyOf(entries, count));
+        }
+
+        // 유저별 id 는 증가하므로 cursor 다음 위치는 이진 탐색으로 찾음
+        void scan(PointHistoryQuery query, Predicate<PointHistory> visitor) {
+            int count = size;
+            PointHistory[] current = entries;
+            for (int i = firstAfter(current, count, query.cursor()); i < count; i++) {
+                PointHistory pointHistory = current[i];
+                if (query.matches(pointHistory) && !visitor.test(pointHistory)) {
+                    return;
+                }
+            }
+        }
+
+        private static int firstAfter(PointHistory[] current, int count, long cursor) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current[mid].id() <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 유저별 포인트 히스토리 조회용 저장소
+ * - point.history.store 로 선택 (object : PointHistoryIndex, columnar : ColumnarPointHistoryStore, tiered : TieredPointHistoryStore)
+ * - 한 유저의 히스토리는 append 한 순서대로 조회
+ */
+public interface PointHistoryStore {
+
+    void append(PointHistory pointHistory);
+
+    List<PointHistory> findAllByUserId(long userId);
+
+    // query 에 맞는 히스토리를 순서대로 visitor 에 넘김, visitor 가 false 를 반환하면 중단 (전체 목록을 만들지 않음)
+    void scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor);
+}
@@ -0,0 +1,222 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 히스토리 비동기 쓰기
+ * - 요청 스레드는 id 를 발급받아 대기열에 넣고 히스토리 저장소에 반영한 뒤 바로 반환 (테이블 insert 를 기다리지 않음)
+ *   - id 발급은 AtomicLong, 대기열은 동시성 큐라서 유저끼리는 서로 기다리지 않음
+ *   - 히스토리 id 는 writer 가 발급하는 한 곳에서만 정함 (PointHistoryTable 은 바꿀 수 없고 insert 순서대로 1 부터 번호를 매기므로,
+ *     백그라운드 스레드가 id 순서대로 빠짐없이 insert 해서 테이블의 번호가 발급한 id 와 같아지게 함)
+ *   - 발급은 했지만 아직 대기열에 들어오지 않은 id 가 있으면 그 뒤의 히스토리는 들어올 때까지 insert 를 미룸
+ *   - insert 결과의 id 가 발급한 id 와 다르면 (테이블에 다른 경로로 insert 한 경우 등) 에러 로그를 남김
+ *   - 같은 유저의 히스토리는 엔진이 한 번에 하나씩 기록하므로 (유저 락, shard, leader 등) 유저별로는 id 순서대로 저장소에 들어감
+ * - 대기열 크기는 slot 으로 제한하며, 포인트를 바꾸기 전에 거절 여부를 알아야 하면 reserve 로 slot 을 먼저 확보
+ *   - slot 은 테이블 insert 가 끝난 뒤에 반납하므로, insert 가 느려도 대기열과 insert 중인 배치를 합쳐 queueCapacity 를 넘지 않음
+ * - 백그라운드 스레드 하나가 대기열을 배치 단위로 꺼내 PointHistoryTable 에 insert
+ * - 히스토리 저장소에는 대기열에 넣는 시점에 반영되므로, 히스토리 조회는 아직 insert 되지 않은 자신의 기록도 볼 수 있음
+ * - 히스토리 저장소에 반영한 뒤 유저의 포인트 버전(UserPointVersions)을 새로 만듦
+ * - 재시작하면 저널에서 복구한 히스토리를 replay 로 먼저 테이블에 다시 insert 하고, 새 id 는 복구한 마지막 id 다음부터 발급
+ */
+@Component
+public class PointHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriter.class);
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryStore pointHistoryStore;
+    private final UserPointVersions userPointVersions;
+    private final PointHistoryWriterProperties properties;
+
+    private final BlockingQueue<PointHistory> queue = new LinkedBlockingQueue<>();
+    private final Semaphore slots;
+    private final Thread drainer;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean running = true;
+
+    // 백그라운드 스레드만 접근, 앞 순번이 아직 들어오지 않아 insert 를 미룬 히스토리 (id 순)
+    private final PriorityQueue<PointHistory> waiting = new PriorityQueue<>(Comparator.comparingLong(PointHistory::id));
+    private long lastInserted;
+    private volatile int waitingCount;
+    // replay 로 넣은 히스토리의 마지막 id (slot 을 차지하지 않고, 순번이 비어 있어도 기다리지 않음)
+    private volatile long recoveredUpTo;
+
+    public PointHistoryWriter(
+            PointHistoryTable pointHistoryTable,
+            PointHistoryStore pointHistoryStore,
+            UserPointVersions userPointVersions,
+            PointHistoryWriterProperties properties
+    ) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointHistoryStore = pointHistoryStore;
+        this.userPointVersions = userPointVersions;
+        this.properties = properties;
+        this.slots = new Semaphore(properties.queueCapacity());
+        this.drainer = new Thread(this::drain, "point-history-writer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    // 히스토리 기록, 테이블 insert 는 백그라운드에서 처리
+    public PointHistory write(long userId, long amount, TransactionType type, long updateMillis) {
+        reserve();
+        return writeReserved(userId, amount, type, updateMillis);
+    }
+
+    // 대기열 slot 확보, 가득 찼으면 설정에 따라 대기하거나 바로 거절
+    public void reserve() {
+        if (!running) {
+            throw new IllegalStateException("포인트 히스토리 writer 가 종료됨");
+        }
+
+        if (properties.backpressure() == Backpressure.FAIL_FAST) {
+            if (!slots.tryAcquire()) {
+                throw new RejectedExecutionException("포인트 히스토리 쓰기 대기열이 가득 참");
+            }
+            return;
+        }
+
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("포인트 히스토리 쓰기 대기 중 인터럽트", e);
+        }
+    }
+
+    // 확보한 slot 을 쓰지 않고 반납
+    public void cancelReservation() {
+        slots.release();
+    }
+
+    // reserve 로 확보한 slot 에 히스토리 기록
+    public PointHistory writeReserved(long userId, long amount, TransactionType type, long updateMillis) {
+        return writeReserved(new PointHistory(nextId(), userId, amount, type, updateMillis));
+    }
+
+    // nextId 로 발급받은 id 의 히스토리를 reserve 로 확보한 slot 에 기록 (발급받은 id 는 반드시 기록해야 뒤의 insert 가 밀리지 않음)
+    public PointHistory writeReserved(PointHistory pointHistory) {
+        if (!running) {
+            slots.release();
+            throw new IllegalStateException("포인트 히스토리 writer 가 종료됨");
+        }
+
+        queue.add(pointHistory);
+        pointHistoryStore.append(pointHistory);
+        userPointVersions.apply(pointHistory);
+        return pointHistory;
+    }
+
+    // 히스토리 id 발급 (테이블 insert 순번과 같아짐)
+    public long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    // 재시작 전에 기록된 히스토리를 테이블에 다시 insert 하고 (저장소에는 넣지 않음), 그 다음 번호부터 id 를 발급
+    // 새 히스토리를 쓰기 전에 id 순으로 한 번만 호출
+    public void replay(List<PointHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+
+        long lastId = histories.get(histories.size() - 1).id();
+        recoveredUpTo = lastId;
+        sequence.accumulateAndGet(lastId, Math::max);
+        queue.addAll(histories);
+    }
+
+    public int pendingCount() {
+        return queue.size() + waitingCount;
+    }
+
+    // 종료 시 대기열에 남은 히스토리를 모두 테이블에 반영
+    @PreDestroy
+    public void close() {
+        running = false;
+        try {
+            drainer.join(properties.shutdownTimeoutMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!queue.isEmpty()) {
+            log.error("종료 시간 안에 반영하지 못한 포인트 히스토리: count={}", queue.size());
+        }
+    }
+
+    // 대기열에서 꺼낸 히스토리를 id 순서로 모아 두고, 다음 순번부터 이어지는 만큼 배치로 insert
+    private void drain() {
+        List<PointHistory> batch = new ArrayList<>(properties.batchSize());
+        while (true) {
+            try {
+                // 바로 insert 할 수 있는 히스토리가 있으면 대기열을 기다리지 않음
+                PointHistory first = isNext(waiting.peek()) ? queue.poll() : queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    waiting.add(first);
+                    queue.drainTo(waiting, properties.batchSize() - 1);
+                }
+
+                // 종료 시에는 앞 순번이 끝내 들어오지 않은 (저널 쓰기 실패 등) 히스토리도 남기지 않고 insert
+                boolean closing = first == null && !running && queue.isEmpty();
+                if (closing && waiting.isEmpty()) {
+                    return;
+                }
+                while (!waiting.isEmpty() && batch.size() < properties.batchSize() && (closing || isNext(waiting.peek()))) {
+                    batch.add(waiting.poll());
+                }
+                waitingCount = waiting.size();
+                if (!batch.isEmpty()) {
+                    slots.release(insertAll(batch));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 복구한 히스토리이거나 마지막으로 insert 한 id 바로 다음이면 insert 할 차례
+    private boolean isNext(PointHistory pointHistory) {
+        return pointHistory != null && (pointHistory.id() <= recoveredUpTo || pointHistory.id() == lastInserted + 1);
+    }
+
+    // insert 하고 반납할 slot 수를 반환 (replay 로 넣은 히스토리는 slot 을 차지하지 않음)
+    private int insertAll(List<PointHistory> batch) {
+        int reserved = 0;
+        for (PointHistory pointHistory : batch) {
+            try {
+                PointHistory inserted = pointHistoryTable.insert(pointHistory.userId(), pointHistory.amount(),
+                    pointHistory.type(), pointHistory.updateMillis());
+                if (inserted.id() != pointHistory.id()) {
+                    log.error("포인트 히스토리 id 와 테이블 순번이 다름: id={} tableId={}", pointHistory.id(), inserted.id());
+                }
+            } catch (RuntimeException e) {
+                log.error("포인트 히스토리 insert 실패: id={} userId={}", pointHistory.id(), pointHistory.userId(), e);
+            }
+            lastInserted = Math.max(lastInserted, pointHistory.id());
+            if (pointHistory.id() > recoveredUpTo) {
+                reserved++;
+            }
+        }
+        return reserved;
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.history.writer")
+public record PointHistoryWriterProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("BLOCK") Backpressure backpressure,
+        @DefaultValue("10000") long shutdownTimeoutMillis
+) {
+
+    public PointHistoryWriterProperties {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("point.history.writer 의 queue-capacity, batch-size 는 1 이상이어야 함");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 계층형 히스토리 저장소 설정 (point.history.store: tiered)
+ * - hotSize : 유저마다 힙에 두는 최근 히스토리 수, 넘치면 오래된 절반을 세그먼트로 옮김
+ * - segmentSize : mmap 세그먼트 파일 하나의 크기
+ */
+@ConfigurationProperties("point.history.tiered")
+public record TieredPointHistoryProperties(
+        @DefaultValue("data/history") String directory,
+        @DefaultValue("128") int hotSize,
+        @DefaultValue("67108864") int segmentSize
+) {
+
+    public TieredPointHistoryProperties {
+        if (hotSize < 2) {
+            throw new IllegalArgumentException("point.history.tiered 의 hot-size 는 2 이상이어야 함");
+        }
+        if (segmentSize < hotSize * TieredPointHistoryStore.RECORD_SIZE) {
+            throw new IllegalArgumentException(
+                "point.history.tiered 의 segment-size 는 hot-size * " + TieredPointHistoryStore.RECORD_SIZE + " 이상이어야 함");
+        }
+    }
+}
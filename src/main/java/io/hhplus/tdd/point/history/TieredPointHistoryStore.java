@@ -0,0 +1,267 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.TransactionType;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 히스토리는 힙에, 오래된 히스토리는 mmap 세그먼트 파일에 두는 저장소
+ * - 유저마다 최근 hotSize 건까지는 PointHistory 객체 그대로 (최근 조회는 파일을 읽지 않음)
+ *   - 최근 배열은 작게 시작해서 hotSize 까지 두 배씩 늘리므로, 히스토리가 적은 유저는 hotSize 만큼 잡지 않음
+ * - 넘치면 오래된 절반을 현재 세그먼트 끝에 유저별 블록 하나로 이어 쓰고, 힙에는 블록 위치(세그먼트, offset, 건수)만 남김
+ *   - 블록은 한 번 쓰면 바꾸지 않고, 세그먼트가 차면 새 세그먼트 파일을 만듦
+ *   - 히스토리 한 건은 RECORD_SIZE byte 고정 (id, amount, updateMillis, type), userId 는 블록 주인이라 저장하지 않음
+ * - 힙 사용량은 유저별 최근 배열 (최대 hotSize) 과 블록 위치 (히스토리 hotSize / 2 건당 하나) 뿐이라 히스토리가 쌓여도 거의 늘지 않음
+ * - 조회는 블록 목록과 최근 배열, 그 길이만 락 안에서 읽고 디코딩은 락 밖에서 함 (cursor 이하인 블록은 건너뜀)
+ * - 세그먼트는 내구성을 위한 것이 아님 (저널이 켜져 있으면 재시작할 때 복구한 히스토리로 다시 채움)
+ *   - 인스턴스마다 설정한 디렉터리 아래에 임시 디렉터리를 새로 만들어 쓰고, 종료할 때 그 디렉터리만 지움 (설정한 디렉터리의 다른 파일은 건드리지 않음)
+ *   - 종료할 때 저장한 히스토리와 세그먼트 버퍼를 모두 놓아서 매핑이 GC 와 함께 풀리도록 함
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "tiered")
+public class TieredPointHistoryStore implements PointHistoryStore {
+
+    // id 8 + amount 8 + updateMillis 8 + type 1
+    static final int RECORD_SIZE = 25;
+
+    private static final String DIRECTORY_PREFIX = "segments-";
+    private static final String SEGMENT_PREFIX = "history-";
+    // 유저별 최근 배열의 처음 크기
+    private static final int INITIAL_HOT_CAPACITY = 4;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final int hotSize;
+    private final int segmentSize;
+    private final ConcurrentHashMap<Long, UserHistory> histories = new ConcurrentHashMap<>();
+
+    // 현재 쓰는 세그먼트 (segmentLock 안에서만 변경)
+    private final Object segmentLock = new Object();
+    private MappedByteBuffer segment;
+    private int segmentPosition;
+    private int segmentIndex;
+    private boolean closed;
+
+    public TieredPointHistoryStore(TieredPointHistoryProperties properties) {
+        Path parent = Path.of(properties.directory());
+        this.hotSize = properties.hotSize();
+        this.segmentSize = properties.segmentSize();
+        try {
+            Files.createDirectories(parent);
+            this.directory = Files.createTempDirectory(parent, DIRECTORY_PREFIX);
+        } catch (IOException e) {
+            throw new UncheckedIOException("히스토리 세그먼트 디렉터리 준비 실패: " + parent, e);
+        }
+    }
+
+    @Override
+    public void append(PointHistory pointHistory) {
+        histories.computeIfAbsent(pointHistory.userId(), userId -> new UserHistory())
+            .append(pointHistory);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+
+        List<PointHistory> found = new ArrayList<>();
+        userHistory.scan(userId, PointHistoryQuery.all(), found::add);
+        return List.copyOf(found);
+    }
+
+    @Override
+    public void scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory != null) {
+            userHistory.scan(userId, query, visitor);
+        }
+    }
+
+    // 세그먼트로 옮긴 히스토리 수 (확인용)
+    long coldCount() {
+        long count = 0;
+        for (UserHistory userHistory : histories.values()) {
+            count += userHistory.coldCount();
+        }
+        return count;
+    }
+
+    // 이 인스턴스가 세그먼트를 쓰는 디렉터리 (확인용)
+    Path segmentDirectory() {
+        return directory;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (segmentLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            segment = null;
+            histories.clear();
+            deleteSegments();
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    // 오래된 히스토리를 현재 세그먼트 끝에 블록으로 씀
+    private Block writeBlock(PointHistory[] entries, int count) {
+        synchronized (segmentLock) {
+            if (closed) {
+                throw new IllegalStateException("히스토리 저장소가 종료됨");
+            }
+            int size = count * RECORD_SIZE;
+            if (segment == null || segmentPosition + size > segmentSize) {
+                segment = mapSegment(segmentIndex++);
+                segmentPosition = 0;
+            }
+
+            int offset = segmentPosition;
+            int position = offset;
+            for (int i = 0; i < count; i++) {
+                PointHistory pointHistory = entries[i];
+                segment.putLong(position, pointHistory.id());
+                segment.putLong(position + 8, pointHistory.amount());
+                segment.putLong(position + 16, pointHistory.updateMillis());
+                segment.put(position + 24, (byte) pointHistory.type().ordinal());
+                position += RECORD_SIZE;
+            }
+            segmentPosition = position;
+            return new Block(segment, offset, count, entries[count - 1].id());
+        }
+    }
+
+    private MappedByteBuffer mapSegment(int index) {
+        Path path = directory.resolve(SEGMENT_PREFIX + index + SEGMENT_SUFFIX);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 채널을 닫아도 매핑은 남음
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("히스토리 세그먼트 생성 실패: " + path, e);
+        }
+    }
+
+    private void deleteSegments() throws IOException {
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : segments) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * 한 유저의 히스토리 (세그먼트 블록 목록 + 최근 히스토리)
+     * - hot 은 뒤에만 채우고, 늘리거나 옮길 때는 새 배열을 만들어 교체 (읽는 쪽이 들고 있는 배열의 앞부분은 바뀌지 않음)
+     */
+    private final class UserHistory {
+
+        private Block[] cold = new Block[0];
+        private PointHistory[] hot = new PointHistory[Math.min(INITIAL_HOT_CAPACITY, hotSize)];
+        private int hotCount;
+
+        synchronized void append(PointHistory pointHistory) {
+            if (hotCount == hotSize) {
+                int moving = hotSize / 2;
+                Block block = writeBlock(hot, moving);
+                cold = Arrays.copyOf(cold, cold.length + 1);
+                cold[cold.length - 1] = block;
+
+                PointHistory[] remaining = new PointHistory[hotSize];
+                System.arraycopy(hot, moving, remaining, 0, hotCount - moving);
+                hot = remaining;
+                hotCount -= moving;
+            } else if (hotCount == hot.length) {
+                hot = Arrays.copyOf(hot, Math.min(hot.length * 2, hotSize));
+            }
+            hot[hotCount++] = pointHistory;
+        }
+
+        synchronized long coldCount() {
+            long count = 0;
+            for (Block block : cold) {
+                count += block.count;
+            }
+            return count;
+        }
+
+        void scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+            Block[] blocks;
+            PointHistory[] recent;
+            int recentCount;
+            synchronized (this) {
+                blocks = cold;
+                recent = hot;
+                recentCount = hotCount;
+            }
+
+            for (Block block : blocks) {
+                if (block.lastId > query.cursor() && !block.scan(userId, query, visitor)) {
+                    return;
+                }
+            }
+            for (int i = 0; i < recentCount; i++) {
+                PointHistory pointHistory = recent[i];
+                if (query.matches(pointHistory.id(), pointHistory.updateMillis(), pointHistory.type())
+                    && !visitor.test(pointHistory)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 세그먼트에 쓴 한 유저의 히스토리 묶음 (바꾸지 않음)
+     * - 세그먼트 버퍼는 절대 위치로만 읽으므로 여러 스레드가 같이 읽어도 됨
+     */
+    private static final class Block {
+
+        private final MappedByteBuffer segment;
+        private final int offset;
+        private final int count;
+        private final long lastId;
+
+        Block(MappedByteBuffer segment, int offset, int count, long lastId) {
+            this.segment = segment;
+            this.offset = offset;
+            this.count = count;
+            this.lastId = lastId;
+        }
+
+        // visitor 가 false 를 반환하면 false
+        boolean scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+            int position = offset;
+            for (int i = 0; i < count; i++, position += RECORD_SIZE) {
+                long id = segment.getLong(position);
+                long updateMillis = segment.getLong(position + 16);
+                TransactionType type = TYPES[segment.get(position + 24)];
+                if (query.matches(id, updateMillis, type)
+                    && !visitor.test(new PointHistory(id, userId, segment.getLong(position + 8), type, updateMillis))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
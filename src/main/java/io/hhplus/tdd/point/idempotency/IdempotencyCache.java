@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 를 붙인 충전/사용 요청의 결과 캐시
+ * - (userId, key) 마다 처음 요청의 future 를 저장하고, 같은 key 로 다시 오면 실행하지 않고 그 future 를 반환
+ *   - 처리 중이면 같은 future 를 기다리고, 끝났으면 저장된 결과를 바로 받음
+ * - 실패로 끝난 요청은 지워서 재시도하면 다시 실행됨 (시간 초과나 대기열 거절처럼 일시적인 실패가 대부분)
+ * - 같은 key 로 종류나 금액이 다른 요청이 오면 IdempotencyKeyMismatchException
+ * - 최대 maxSize 개, ttl 이 지난 항목은 조회하거나 새로 넣을 때 지움
+ *   - 넣은 순서가 곧 만료 순서이므로 넣은 순번으로 정렬한 맵의 앞에서부터 지우면 됨
+ *   - 실패로 지우는 항목도 순번으로 바로 빼므로, 실패가 이어져도 지운 항목이 순서 맵에 남지 않음
+ *   - 개수가 넘치면 처리 중인 항목도 지워질 수 있음 (그 뒤에 온 같은 key 는 다시 실행됨)
+ */
+@Component
+public class IdempotencyCache {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    // 항목 하나의 대략적인 크기 (맵 노드, Key, Entry, future, 결과 UserPoint, 순서 맵 노드) 에 key 길이를 더해서 추정
+    static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final PointMetrics pointMetrics;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Entry> order = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    public IdempotencyCache(IdempotencyProperties properties, PointMetrics pointMetrics) {
+        this.maxSize = properties.maxSize();
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(properties.ttlMillis());
+        this.pointMetrics = pointMetrics;
+        pointMetrics.gaugeIdempotencyCache(this::size, this::estimatedBytes);
+    }
+
+    // 처음 보는 key 면 action 을 실행하고, 이미 있으면 그 결과(또는 처리 중인 future)를 반환
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, PointOperation operation, Supplier<CompletableFuture<T>> action) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1 ~ " + MAX_KEY_LENGTH + " 자");
+        }
+
+        long now = System.nanoTime();
+        purge(now);
+
+        Key cacheKey = new Key(operation.userId(), key);
+        while (true) {
+            Entry existing = entries.get(cacheKey);
+            if (existing != null && existing.expired(now)) {
+                remove(existing);
+                continue;
+            }
+            if (existing != null) {
+                if (!existing.operation.equals(operation)) {
+                    throw new IdempotencyKeyMismatchException(operation.userId(), key);
+                }
+                pointMetrics.countIdempotencyHit(!existing.future.isDone());
+                return (CompletableFuture<T>) existing.future;
+            }
+
+            evictOldest();
+            CompletableFuture<T> future = new CompletableFuture<>();
+            Entry entry = new Entry(cacheKey, sequence.incrementAndGet(), operation, future, now + ttlNanos);
+            if (entries.putIfAbsent(cacheKey, entry) != null) {
+                continue;
+            }
+            order.put(entry.sequence, entry);
+            estimatedBytes.addAndGet(entry.bytes());
+
+            try {
+                action.get().whenComplete((result, e) -> {
+                    if (e != null) {
+                        remove(entry);
+                        future.completeExceptionally(e);
+                    } else {
+                        future.complete(result);
+                    }
+                });
+            } catch (RuntimeException e) {
+                remove(entry);
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    // 순서 맵에 남아 있는 항목 수 (지운 항목이 남지 않는지 확인용)
+    int orderedSize() {
+        return order.size();
+    }
+
+    // 만료된 항목을 앞에서부터 정리
+    private void purge(long now) {
+        Map.Entry<Long, Entry> head;
+        while ((head = order.firstEntry()) != null && head.getValue().expired(now)) {
+            remove(head.getValue());
+        }
+    }
+
+    // 새 항목이 들어갈 자리가 없으면 오래된 항목부터 지움
+    private void evictOldest() {
+        Map.Entry<Long, Entry> head;
+        while (entries.size() >= maxSize && (head = order.pollFirstEntry()) != null) {
+            remove(head.getValue());
+        }
+    }
+
+    private void remove(Entry entry) {
+        order.remove(entry.sequence, entry);
+        if (entries.remove(entry.key, entry)) {
+            estimatedBytes.addAndGet(-entry.bytes());
+        }
+    }
+
+    private record Key(long userId, String key) {
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+        private final long sequence;
+        private final PointOperation operation;
+        private final CompletableFuture<?> future;
+        private final long expiresAtNanos;
+
+        Entry(Key key, long sequence, PointOperation operation, CompletableFuture<?> future, long expiresAtNanos) {
+            this.key = key;
+            this.sequence = sequence;
+            this.operation = operation;
+            this.future = future;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean expired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        int bytes() {
+            return ENTRY_OVERHEAD_BYTES + key.key().length();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.idempotency;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IdempotencyKeyMismatchException(long userId, String key) {
+        super("같은 Idempotency-Key 로 다른 요청: userId=" + userId + " key=" + key);
+    }
+}
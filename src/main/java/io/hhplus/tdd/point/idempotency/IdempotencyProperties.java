@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") int maxSize,
+        @DefaultValue("600000") long ttlMillis
+) {
+
+    public IdempotencyProperties {
+        if (maxSize < 1 || ttlMillis < 1) {
+            throw new IllegalArgumentException("point.idempotency 의 max-size, ttl-millis 는 1 이상이어야 함");
+        }
+    }
+}
@@ -0,0 +1,527 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 저널 (write-ahead log)
+ * - 포인트/히스토리 변경을 바이너리 레코드로 메모리 버퍼에 쌓고, flusher 스레드 하나가 FileChannel 로 세그먼트 파일에 쓰고 fsync
+ * - 충전/사용 한 건은 히스토리와 포인트를 CHANGE 레코드 하나로 기록해서, 기록 도중 프로세스가 죽어도 둘 중 하나만 복구되지 않음
+ * - fsync-window-millis 가 0 이면 fsync 된 뒤에 반환하므로, 저장소와 캐시, 히스토리 writer 에는 저널에 남은 변경만 반영됨
+ * - fsync 하는 동안 들어온 기록은 다음 fsync 에 묶이므로 (group commit) 동시 요청이 많을수록 fsync 횟수가 줄어듦
+ * - 세그먼트가 segmentSize 를 넘으면 다음 세그먼트 파일로 넘어감
+ * - 주기적으로 직전 스냅샷과 닫힌 세그먼트를 합쳐 새 스냅샷을 만들고 합친 파일은 지움 (재생할 양이 계속 늘지 않도록)
+ * - 스냅샷은 포인트를 유저별 마지막 값 하나로 줄이지만 히스토리는 모두 남김 (히스토리를 디스크에 남기는 곳이 저널뿐이라 지우면 재시작 후 조회할 수 없음)
+ *   따라서 스냅샷 크기와 시작할 때 재생하는 양은 히스토리 수에 비례해서 계속 늘어나고, 보존 기간을 두려면 저널 디렉터리를 따로 정리해야 함
+ * - 시작할 때 스냅샷과 남은 세그먼트를 mmap 으로 읽어 재생, 히스토리는 히스토리 저장소와 writer(테이블 다시 insert)에 넣고 포인트는 바뀌기 전까지 findRecoveredPoint 로 제공
+ */
+@Component
+@ConditionalOnProperty(name = "point.journal.enabled", havingValue = "true")
+public class FilePointJournal implements PointJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(FilePointJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final long MAX_MAP_SIZE = 1L << 30;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final int bufferSize;
+    private final long fsyncWindowNanos;
+    private final Map<Long, UserPoint> recovered = new ConcurrentHashMap<>();
+
+    // 버퍼와 순번은 lock 으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer active;
+    private ByteBuffer standby;
+    private long appended;
+    private long durable;
+    private IOException failure;
+    private boolean running = true;
+
+    // 세그먼트 파일은 fileLock 으로 보호 (flusher 와 스냅샷이 같이 사용)
+    private final ReentrantLock fileLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private FileChannel segment;
+    private long segmentIndex;
+
+    private final Thread flusher;
+    private final ScheduledExecutorService snapshotter;
+
+    public FilePointJournal(
+            PointJournalProperties properties,
+            PointHistoryStore pointHistoryStore,
+            PointHistoryWriter pointHistoryWriter
+    ) throws IOException {
+        this.directory = Path.of(properties.directory());
+        this.segmentSize = properties.segmentSize();
+        this.bufferSize = properties.bufferSize();
+        this.fsyncWindowNanos = TimeUnit.MILLISECONDS.toNanos(properties.fsyncWindowMillis());
+        this.active = ByteBuffer.allocate(bufferSize);
+        this.standby = ByteBuffer.allocate(bufferSize);
+
+        Files.createDirectories(directory);
+        recover(pointHistoryStore, pointHistoryWriter);
+        this.segment = openSegment(segmentIndex);
+
+        this.flusher = new Thread(this::flushLoop, "point-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        if (properties.snapshotIntervalMillis() > 0) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("point-journal-snapshot-");
+            threadFactory.setDaemon(true);
+            this.snapshotter = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            this.snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, properties.snapshotIntervalMillis(),
+                properties.snapshotIntervalMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.snapshotter = null;
+        }
+    }
+
+    @Override
+    public void appendPoint(UserPoint userPoint) {
+        lock.lock();
+        try {
+            awaitSpace(JournalCodec.POINT_SIZE);
+            JournalCodec.writePoint(active, crc, userPoint);
+            awaitDurable(++appended);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 건마다 자리를 확보한 직후 id 를 발급해서 쓰고, 마지막 기록이 fsync 될 때까지 한 번만 대기
+    @Override
+    public List<PointHistory> appendChanges(long userId, List<PointChange> changes, long updateMillis,
+            LongSupplier historyIds) {
+        List<PointHistory> histories = new ArrayList<>(changes.size());
+        lock.lock();
+        try {
+            for (PointChange change : changes) {
+                awaitSpace(JournalCodec.CHANGE_SIZE);
+                PointHistory pointHistory = new PointHistory(historyIds.getAsLong(), userId, change.amount(),
+                    change.type(), updateMillis);
+                JournalCodec.writeChange(active, crc, pointHistory, new UserPoint(userId, change.point(), updateMillis));
+                histories.add(pointHistory);
+                appended++;
+            }
+            awaitDurable(appended);
+            return histories;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> appendTransfer(UserPoint from, UserPoint to, long amount, LongSupplier historyIds) {
+        lock.lock();
+        try {
+            awaitSpace(JournalCodec.TRANSFER_SIZE);
+            PointHistory useHistory = new PointHistory(historyIds.getAsLong(), from.id(), amount, TransactionType.USE,
+                from.updateMillis());
+            PointHistory chargeHistory = new PointHistory(historyIds.getAsLong(), to.id(), amount,
+                TransactionType.CHARGE, to.updateMillis());
+            JournalCodec.writeTransfer(active, crc, useHistory, chargeHistory, from, to);
+            awaitDurable(++appended);
+            return List.of(useHistory, chargeHistory);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public UserPoint findRecoveredPoint(long userId) {
+        return recovered.get(userId);
+    }
+
+    @Override
+    public void releaseRecoveredPoint(long userId) {
+        recovered.remove(userId);
+    }
+
+    // 직전 스냅샷과 닫힌 세그먼트를 합쳐 새 스냅샷을 만들고, 합친 파일은 지움 (히스토리는 줄이지 않고 모두 옮김)
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long upTo = closeSegment();
+            List<Long> segments = indexes(SEGMENT_PREFIX, SEGMENT_SUFFIX).stream().filter(i -> i < upTo).toList();
+            if (segments.isEmpty()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            JournalState state = new JournalState();
+            List<Long> snapshots = indexes(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            if (!snapshots.isEmpty()) {
+                read(snapshotPath(snapshots.get(snapshots.size() - 1)), state, false);
+            }
+            for (long index : segments) {
+                read(segmentPath(index), state, false);
+            }
+
+            writeSnapshot(state, upTo);
+            for (long index : snapshots) {
+                Files.deleteIfExists(snapshotPath(index));
+            }
+            for (long index : segments) {
+                Files.deleteIfExists(segmentPath(index));
+            }
+
+            log.info("포인트 저널 스냅샷: index={} users={} histories={} elapsedMillis={}", upTo, state.points().size(),
+                state.historyCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // 남은 기록을 모두 fsync 하고 종료
+    @PreDestroy
+    public void close() {
+        if (snapshotter != null) {
+            snapshotter.shutdown();
+            try {
+                snapshotter.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        lock.lock();
+        try {
+            running = false;
+            pending.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        fileLock.lock();
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.error("포인트 저널 세그먼트 닫기 실패: index={}", segmentIndex, e);
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    // 버퍼에 size 만큼 자리가 날 때까지 대기 (lock 을 잡은 상태)
+    private void awaitSpace(int size) {
+        checkWritable();
+        while (active.remaining() < size) {
+            pending.signal();
+            flushed.awaitUninterruptibly();
+            checkWritable();
+        }
+    }
+
+    // fsync-window-millis 가 0 이면 sequence 까지 fsync 될 때까지 대기 (lock 을 잡은 상태)
+    private void awaitDurable(long sequence) {
+        if (fsyncWindowNanos > 0) {
+            return;
+        }
+
+        pending.signal();
+        while (durable < sequence) {
+            if (failure != null) {
+                throw new UncheckedIOException("포인트 저널 쓰기 실패", failure);
+            }
+            flushed.awaitUninterruptibly();
+        }
+    }
+
+    private void checkWritable() {
+        if (failure != null) {
+            throw new UncheckedIOException("포인트 저널 쓰기 실패", failure);
+        }
+        if (!running) {
+            throw new IllegalStateException("포인트 저널이 종료됨");
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long upTo;
+            lock.lock();
+            try {
+                if (fsyncWindowNanos > 0) {
+                    if (running) {
+                        pending.awaitNanos(fsyncWindowNanos);
+                    }
+                } else {
+                    while (running && active.position() == 0) {
+                        pending.await();
+                    }
+                }
+
+                if (active.position() == 0) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+
+                // 버퍼를 바꿔 끼우고 lock 을 놓은 뒤 쓰기 때문에, 파일에 쓰는 동안에도 다음 기록을 받을 수 있음
+                batch = active;
+                active = standby;
+                standby = batch;
+                upTo = appended;
+                flushed.signalAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new IOException("포인트 저널 flusher 인터럽트", e));
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                write(batch);
+            } catch (IOException e) {
+                log.error("포인트 저널 쓰기 실패: index={}", segmentIndex, e);
+                fail(e);
+                return;
+            } finally {
+                batch.clear();
+            }
+
+            lock.lock();
+            try {
+                durable = upTo;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void fail(IOException e) {
+        lock.lock();
+        try {
+            failure = e;
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(ByteBuffer batch) throws IOException {
+        batch.flip();
+        fileLock.lock();
+        try {
+            while (batch.hasRemaining()) {
+                segment.write(batch);
+            }
+            segment.force(false);
+            if (segment.size() >= segmentSize) {
+                rollSegment();
+            }
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    // 현재 세그먼트에 기록이 있으면 다음 세그먼트로 넘기고, 닫힌 세그먼트의 끝 번호(제외)를 반환
+    private long closeSegment() throws IOException {
+        fileLock.lock();
+        try {
+            if (segment.size() > 0) {
+                rollSegment();
+            }
+            return segmentIndex;
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    // fileLock 을 잡은 상태에서 호출
+    private void rollSegment() throws IOException {
+        segment.force(false);
+        segment.close();
+        segmentIndex++;
+        segment = openSegment(segmentIndex);
+    }
+
+    private FileChannel openSegment(long index) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(index),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        syncDirectory();
+        return channel;
+    }
+
+    // 스냅샷과 그 이후 세그먼트를 재생해서 히스토리 저장소와 복구 포인트를 채움
+    private void recover(PointHistoryStore pointHistoryStore, PointHistoryWriter pointHistoryWriter) throws IOException {
+        long start = System.nanoTime();
+        JournalState state = new JournalState();
+
+        List<Long> snapshots = indexes(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        long base = snapshots.isEmpty() ? 1 : snapshots.get(snapshots.size() - 1);
+        if (!snapshots.isEmpty()) {
+            read(snapshotPath(base), state, false);
+        }
+
+        long next = base;
+        for (long index : indexes(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (index < base) {
+                continue;
+            }
+            read(segmentPath(index), state, true);
+            next = index + 1;
+        }
+        this.segmentIndex = next;
+
+        List<PointHistory> histories = state.histories();
+        for (PointHistory pointHistory : histories) {
+            pointHistoryStore.append(pointHistory);
+        }
+        // 테이블에도 다시 insert 해서 테이블 순번과 히스토리 id 를 맞추고, 새 id 는 그 다음부터 발급
+        pointHistoryWriter.replay(histories);
+        recovered.putAll(state.points());
+
+        log.info("포인트 저널 복구: users={} histories={} elapsedMillis={}", state.points().size(), histories.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // 파일을 mmap 으로 읽어 재생, 쓰다가 멈춘 꼬리가 있으면 거기서 멈추고 truncateTail 이면 잘라냄
+    private void read(Path path, JournalState state, boolean truncateTail) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            CRC32C readCrc = new CRC32C();
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(size - position, MAX_MAP_SIZE);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int consumed = JournalCodec.read(buffer, readCrc, state);
+
+                // 매핑 구간 끝에 걸친 레코드는 다음 구간에서 다시 읽음
+                boolean windowEnd = position + length < size && length - consumed < JournalCodec.MAX_RECORD_SIZE;
+                position += consumed;
+                if (consumed < length && !windowEnd) {
+                    break;
+                }
+            }
+
+            if (position < size) {
+                log.warn("포인트 저널 꼬리 손상: file={} valid={} size={}", path.getFileName(), position, size);
+                if (truncateTail) {
+                    channel.truncate(position);
+                    channel.force(true);
+                }
+            }
+        }
+    }
+
+    private void writeSnapshot(JournalState state, long index) throws IOException {
+        Path temp = directory.resolve(SNAPSHOT_PREFIX + index + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+            CRC32C writeCrc = new CRC32C();
+            for (UserPoint userPoint : state.points().values()) {
+                if (buffer.remaining() < JournalCodec.POINT_SIZE) {
+                    drain(channel, buffer);
+                }
+                JournalCodec.writePoint(buffer, writeCrc, userPoint);
+            }
+            for (PointHistory pointHistory : state.histories()) {
+                if (buffer.remaining() < JournalCodec.HISTORY_SIZE) {
+                    drain(channel, buffer);
+                }
+                JournalCodec.writeHistory(buffer, writeCrc, pointHistory);
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+
+        Files.move(temp, snapshotPath(index), StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    private void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("포인트 저널 스냅샷 실패", e);
+        }
+    }
+
+    // 새로 만들거나 옮긴 파일 이름이 장애 후에도 남도록 디렉터리도 fsync (지원하지 않는 OS 에서는 무시)
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+
+        }
+    }
+
+    private List<Long> indexes(String prefix, String suffix) throws IOException {
+        List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                .forEach(name -> indexes.add(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()))));
+        }
+        indexes.sort(null);
+        return indexes;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", index) + SEGMENT_SUFFIX);
+    }
+
+    private Path snapshotPath(long index) {
+        return directory.resolve(SNAPSHOT_PREFIX + String.format("%020d", index) + SNAPSHOT_SUFFIX);
+    }
+}
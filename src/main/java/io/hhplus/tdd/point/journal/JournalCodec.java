@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널 레코드 형식
+ * - [crc32c int][kind byte][body] , crc 는 kind 와 body 에 대해 계산
+ * - POINT body : userId, point, updateMillis (long 3개)
+ * - HISTORY body : id, userId, amount (long 3개), type (byte), updateMillis (long)
+ * - TRANSFER body : HISTORY body 2개, POINT body 2개 (송금 한 건의 변경을 crc 하나로 묶어서, 복구할 때 전부 반영하거나 전부 버림)
+ * - CHANGE body : HISTORY body, POINT body (충전/사용 한 건의 히스토리와 적용 직후 포인트를 TRANSFER 와 같이 crc 하나로 묶음)
+ * - kind 가 0 이거나 crc 가 맞지 않으면 그 위치를 기록의 끝으로 봄 (쓰다가 멈춘 꼬리)
+ */
+final class JournalCodec {
+
+    static final byte POINT = 1;
+    static final byte HISTORY = 2;
+    static final byte TRANSFER = 3;
+    static final byte CHANGE = 4;
+
+    private static final int POINT_BODY_SIZE = Long.BYTES * 3;
+    private static final int HISTORY_BODY_SIZE = Long.BYTES * 4 + 1;
+
+    static final int POINT_SIZE = Integer.BYTES + 1 + POINT_BODY_SIZE;
+    static final int HISTORY_SIZE = Integer.BYTES + 1 + HISTORY_BODY_SIZE;
+    static final int TRANSFER_SIZE = Integer.BYTES + 1 + (HISTORY_BODY_SIZE + POINT_BODY_SIZE) * 2;
+    static final int CHANGE_SIZE = Integer.BYTES + 1 + HISTORY_BODY_SIZE + POINT_BODY_SIZE;
+    static final int MAX_RECORD_SIZE = TRANSFER_SIZE;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private JournalCodec() {
+    }
+
+    static void writePoint(ByteBuffer buffer, CRC32C crc, UserPoint userPoint) {
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.put(POINT);
+        putPoint(buffer, userPoint);
+        seal(buffer, crc, start);
+    }
+
+    static void writeHistory(ByteBuffer buffer, CRC32C crc, PointHistory pointHistory) {
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.put(HISTORY);
+        putHistory(buffer, pointHistory);
+        seal(buffer, crc, start);
+    }
+
+    static void writeTransfer(ByteBuffer buffer, CRC32C crc, PointHistory useHistory, PointHistory chargeHistory,
+            UserPoint from, UserPoint to) {
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.put(TRANSFER);
+        putHistory(buffer, useHistory);
+        putHistory(buffer, chargeHistory);
+        putPoint(buffer, from);
+        putPoint(buffer, to);
+        seal(buffer, crc, start);
+    }
+
+    static void writeChange(ByteBuffer buffer, CRC32C crc, PointHistory pointHistory, UserPoint userPoint) {
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.put(CHANGE);
+        putHistory(buffer, pointHistory);
+        putPoint(buffer, userPoint);
+        seal(buffer, crc, start);
+    }
+
+    // buffer 의 현재 위치부터 읽을 수 있는 레코드를 모두 state 에 반영하고, 마지막으로 정상 읽은 위치를 반환
+    static int read(ByteBuffer buffer, CRC32C crc, JournalState state) {
+        while (buffer.remaining() > Integer.BYTES) {
+            int start = buffer.position();
+            byte kind = buffer.get(start + Integer.BYTES);
+            int size = switch (kind) {
+                case POINT -> POINT_SIZE;
+                case HISTORY -> HISTORY_SIZE;
+                case TRANSFER -> TRANSFER_SIZE;
+                case CHANGE -> CHANGE_SIZE;
+                default -> 0;
+            };
+            if (size == 0 || buffer.remaining() < size || buffer.getInt(start) != checksum(buffer, crc, start, size)) {
+                return start;
+            }
+
+            buffer.position(start + Integer.BYTES + 1);
+            if (kind == POINT) {
+                state.apply(getPoint(buffer));
+            } else if (kind == HISTORY) {
+                state.apply(getHistory(buffer));
+            } else if (kind == CHANGE) {
+                state.apply(getHistory(buffer));
+                state.apply(getPoint(buffer));
+            } else {
+                state.apply(getHistory(buffer));
+                state.apply(getHistory(buffer));
+                state.apply(getPoint(buffer));
+                state.apply(getPoint(buffer));
+            }
+        }
+
+        return buffer.position();
+    }
+
+    private static void putPoint(ByteBuffer buffer, UserPoint userPoint) {
+        buffer.putLong(userPoint.id());
+        buffer.putLong(userPoint.point());
+        buffer.putLong(userPoint.updateMillis());
+    }
+
+    private static void putHistory(ByteBuffer buffer, PointHistory pointHistory) {
+        buffer.putLong(pointHistory.id());
+        buffer.putLong(pointHistory.userId());
+        buffer.putLong(pointHistory.amount());
+        buffer.put((byte) pointHistory.type().ordinal());
+        buffer.putLong(pointHistory.updateMillis());
+    }
+
+    private static UserPoint getPoint(ByteBuffer buffer) {
+        return new UserPoint(buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    private static PointHistory getHistory(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        long userId = buffer.getLong();
+        long amount = buffer.getLong();
+        TransactionType type = TYPES[buffer.get()];
+        return new PointHistory(id, userId, amount, type, buffer.getLong());
+    }
+
+    private static void seal(ByteBuffer buffer, CRC32C crc, int start) {
+        buffer.putInt(start, checksum(buffer, crc, start, buffer.position() - start));
+    }
+
+    private static int checksum(ByteBuffer buffer, CRC32C crc, int start, int size) {
+        crc.reset();
+        if (buffer.hasArray()) {
+            crc.update(buffer.array(), buffer.arrayOffset() + start + Integer.BYTES, size - Integer.BYTES);
+        } else {
+            crc.update(buffer.slice(start + Integer.BYTES, size - Integer.BYTES));
+        }
+        return (int) crc.getValue();
+    }
+}
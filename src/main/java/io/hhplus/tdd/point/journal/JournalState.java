@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저널을 재생해서 만든 상태
+ * - 포인트는 유저별로 마지막 기록만, 히스토리는 id 기준으로 한 번만 남김 (스냅샷과 세그먼트에 같은 기록이 있어도 됨)
+ */
+final class JournalState {
+
+    private final Map<Long, UserPoint> points = new HashMap<>();
+    private final Map<Long, PointHistory> histories = new HashMap<>();
+
+    void apply(UserPoint userPoint) {
+        points.put(userPoint.id(), userPoint);
+    }
+
+    void apply(PointHistory pointHistory) {
+        histories.put(pointHistory.id(), pointHistory);
+    }
+
+    Map<Long, UserPoint> points() {
+        return points;
+    }
+
+    // id 순으로 정렬한 히스토리
+    List<PointHistory> histories() {
+        List<PointHistory> sorted = new ArrayList<>(histories.values());
+        sorted.sort(Comparator.comparingLong(PointHistory::id));
+        return sorted;
+    }
+
+    int historyCount() {
+        return histories.size();
+    }
+}
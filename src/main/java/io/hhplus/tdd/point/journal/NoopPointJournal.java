@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저널을 쓰지 않는 경우 (재시작하면 포인트와 히스토리가 사라짐)
+ */
+@Component
+@ConditionalOnProperty(name = "point.journal.enabled", havingValue = "false", matchIfMissing = true)
+public class NoopPointJournal implements PointJournal {
+
+    @Override
+    public void appendPoint(UserPoint userPoint) {
+    }
+
+    @Override
+    public List<PointHistory> appendChanges(long userId, List<PointChange> changes, long updateMillis,
+            LongSupplier historyIds) {
+        List<PointHistory> histories = new ArrayList<>(changes.size());
+        for (PointChange change : changes) {
+            histories.add(new PointHistory(historyIds.getAsLong(), userId, change.amount(), change.type(), updateMillis));
+        }
+        return histories;
+    }
+
+    @Override
+    public List<PointHistory> appendTransfer(UserPoint from, UserPoint to, long amount, LongSupplier historyIds) {
+        PointHistory useHistory = new PointHistory(historyIds.getAsLong(), from.id(), amount, TransactionType.USE,
+            from.updateMillis());
+        PointHistory chargeHistory = new PointHistory(historyIds.getAsLong(), to.id(), amount, TransactionType.CHARGE,
+            to.updateMillis());
+        return List.of(useHistory, chargeHistory);
+    }
+
+    @Override
+    public UserPoint findRecoveredPoint(long userId) {
+        return null;
+    }
+
+    @Override
+    public void releaseRecoveredPoint(long userId) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 포인트/히스토리 변경 기록 (재시작 후 복구용)
+ * - point.journal.enabled=true 면 파일 저널, 아니면 아무것도 하지 않음
+ * - 저장소, 캐시, 히스토리 writer 에 반영하기 전에 기록 (append 가 반환되면 기록이 남은 상태)
+ * - 히스토리 id 는 기록하는 순서대로 historyIds 에서 발급 (저널에 남은 순서와 id 순서가 같아서, 중간에 실패하면 앞쪽 id 만 남음)
+ */
+public interface PointJournal {
+
+    // 포인트 변경 기록
+    void appendPoint(UserPoint userPoint);
+
+    // 한 유저의 충전/사용들을 건마다 히스토리와 포인트를 묶은 하나의 기록으로 남기고, 기록한 히스토리를 순서대로 반환
+    List<PointHistory> appendChanges(long userId, List<PointChange> changes, long updateMillis, LongSupplier historyIds);
+
+    // 송금 한 건 (양쪽 히스토리와 포인트) 을 하나의 기록으로 남기고, 사용/충전 히스토리를 순서대로 반환
+    List<PointHistory> appendTransfer(UserPoint from, UserPoint to, long amount, LongSupplier historyIds);
+
+    // 재시작 전에 저장된 포인트, 재시작 후 아직 바뀌지 않은 유저만 반환하고 없으면 null
+    UserPoint findRecoveredPoint(long userId);
+
+    // 유저의 포인트가 저장소에 다시 저장되어 복구한 포인트가 더는 필요 없음
+    void releaseRecoveredPoint(long userId);
+}
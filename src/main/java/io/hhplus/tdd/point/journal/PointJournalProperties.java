@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 파일 저널 설정
+ * - fsyncWindowMillis 가 0 이면 호출마다 fsync 가 끝날 때까지 기다림 (동시에 들어온 기록은 한 번의 fsync 로 묶음)
+ * - 0 보다 크면 그 주기로 모아서 fsync 하고 호출은 기다리지 않음 (장애 시 최대 그 시간만큼의 기록을 잃을 수 있음)
+ * - snapshotIntervalMillis 가 0 이면 스냅샷을 만들지 않음
+ * - 기본값은 꺼짐 (스냅샷이 히스토리를 모두 남기므로 켜면 directory 의 크기가 히스토리 수만큼 계속 늘어남)
+ */
+@ConfigurationProperties("point.journal")
+public record PointJournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") String directory,
+        @DefaultValue("67108864") long segmentSize,
+        @DefaultValue("1048576") int bufferSize,
+        @DefaultValue("0") long fsyncWindowMillis,
+        @DefaultValue("60000") long snapshotIntervalMillis
+) {
+
+    public PointJournalProperties {
+        if (segmentSize < 1 || bufferSize < JournalCodec.MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException(
+                "point.journal 의 segment-size 는 1 이상, buffer-size 는 " + JournalCodec.MAX_RECORD_SIZE + " 이상이어야 함");
+        }
+        if (fsyncWindowMillis < 0 || snapshotIntervalMillis < 0) {
+            throw new IllegalArgumentException("point.journal 의 fsync-window-millis, snapshot-interval-millis 는 0 이상이어야 함");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.json;
+
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 포인트 응답용 converter 를 Jackson 보다 앞에 등록
+ */
+@Configuration
+public class PointJsonConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PointJsonHttpMessageConverter());
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.json;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+/**
+ * UserPoint, PointHistory, List&lt;PointHistory&gt; 응답을 PointJsonWriter 로 쓰는 converter (쓰기 전용)
+ * - Jackson converter 보다 앞에 두고, 나머지 타입과 요청 본문은 Jackson 이 그대로 처리
+ * - List 는 선언된 타입이 List&lt;PointHistory&gt; 인 경우에만 (CompletableFuture 의 결과 타입도 선언 기준)
+ */
+public class PointJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public PointJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == UserPoint.class || clazz == PointHistory.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return (supports(clazz) || isPointHistoryList(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = outputMessage.getBody();
+        PointJsonWriter writer = PointJsonWriter.of(body);
+        if (value instanceof UserPoint userPoint) {
+            writer.userPoint(userPoint);
+        } else if (value instanceof PointHistory pointHistory) {
+            writer.pointHistory(pointHistory);
+        } else {
+            writer.pointHistories((List<PointHistory>) value);
+        }
+        writer.flush();
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("쓰기 전용 converter", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("쓰기 전용 converter", inputMessage);
+    }
+
+    private static boolean isPointHistoryList(@Nullable Type type) {
+        return type instanceof ParameterizedType parameterizedType
+            && parameterizedType.getRawType() == List.class
+            && parameterizedType.getActualTypeArguments()[0] == PointHistory.class;
+    }
+}
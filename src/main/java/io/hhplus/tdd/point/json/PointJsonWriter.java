@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point.json;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * UserPoint, PointHistory 전용 JSON writer (Jackson 과 같은 출력)
+ * - 필드 이름과 구분자, TransactionType 이름은 미리 byte 배열로 만들어 두고 그대로 복사
+ * - long 은 String 을 만들지 않고 숫자를 버퍼에 바로 씀
+ * - 버퍼는 스레드마다 하나를 재사용하고, 가득 차면 OutputStream 으로 내보냄 (긴 목록도 버퍼 크기만큼만 씀)
+ * - of 로 꺼낸 writer 는 그 스레드에서 다음 of 를 부르기 전까지만 사용
+ */
+public final class PointJsonWriter {
+
+    static final int BUFFER_SIZE = 8192;
+
+    // 값 하나의 최대 길이 (long 20자, 가장 긴 타입 이름 포함한 필드 하나)
+    private static final int MAX_FIELD_SIZE = 64;
+
+    private static final byte[] USER_POINT_ID = ascii("{\"id\":");
+    private static final byte[] USER_POINT_POINT = ascii(",\"point\":");
+    private static final byte[] HISTORY_ID = ascii("{\"id\":");
+    private static final byte[] HISTORY_USER_ID = ascii(",\"userId\":");
+    private static final byte[] HISTORY_AMOUNT = ascii(",\"amount\":");
+    private static final byte[] HISTORY_TYPE = ascii(",\"type\":");
+    private static final byte[] UPDATE_MILLIS = ascii(",\"updateMillis\":");
+    private static final byte[] LONG_MIN_VALUE = ascii(Long.toString(Long.MIN_VALUE));
+    private static final byte[][] TYPES = types();
+
+    private static final ThreadLocal<PointJsonWriter> WRITERS = ThreadLocal.withInitial(PointJsonWriter::new);
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private OutputStream out;
+    private int position;
+
+    private PointJsonWriter() {
+    }
+
+    // 현재 스레드의 writer 를 out 에 쓰도록 준비
+    public static PointJsonWriter of(OutputStream out) {
+        PointJsonWriter writer = WRITERS.get();
+        writer.out = out;
+        writer.position = 0;
+        return writer;
+    }
+
+    public PointJsonWriter userPoint(UserPoint userPoint) throws IOException {
+        ensure(MAX_FIELD_SIZE * 3);
+        put(USER_POINT_ID);
+        putLong(userPoint.id());
+        put(USER_POINT_POINT);
+        putLong(userPoint.point());
+        put(UPDATE_MILLIS);
+        putLong(userPoint.updateMillis());
+        buffer[position++] = '}';
+        return this;
+    }
+
+    public PointJsonWriter pointHistory(PointHistory pointHistory) throws IOException {
+        ensure(MAX_FIELD_SIZE * 5);
+        put(HISTORY_ID);
+        putLong(pointHistory.id());
+        put(HISTORY_USER_ID);
+        putLong(pointHistory.userId());
+        put(HISTORY_AMOUNT);
+        putLong(pointHistory.amount());
+        put(HISTORY_TYPE);
+        put(TYPES[pointHistory.type().ordinal()]);
+        put(UPDATE_MILLIS);
+        putLong(pointHistory.updateMillis());
+        buffer[position++] = '}';
+        return this;
+    }
+
+    public PointJsonWriter pointHistories(List<PointHistory> pointHistories) throws IOException {
+        ensure(1);
+        buffer[position++] = '[';
+        for (int i = 0, size = pointHistories.size(); i < size; i++) {
+            if (i > 0) {
+                ensure(1);
+                buffer[position++] = ',';
+            }
+            pointHistory(pointHistories.get(i));
+        }
+        ensure(1);
+        buffer[position++] = ']';
+        return this;
+    }
+
+    public PointJsonWriter newLine() throws IOException {
+        ensure(1);
+        buffer[position++] = '\n';
+        return this;
+    }
+
+    // 버퍼에 남은 내용을 내보냄 (OutputStream 자체의 flush 는 부르지 않음)
+    public void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void ensure(int size) throws IOException {
+        if (position + size > buffer.length) {
+            flush();
+        }
+    }
+
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            put(LONG_MIN_VALUE);
+            return;
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        int end = position + digits(value);
+        int index = end;
+        do {
+            buffer[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position = end;
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static byte[][] types() {
+        TransactionType[] values = TransactionType.values();
+        byte[][] types = new byte[values.length][];
+        for (TransactionType type : values) {
+            types[type.ordinal()] = ascii("\"" + type.name() + "\"");
+        }
+        return types;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.lock;
+
+public class LockTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public LockTimeoutException(long userId, long timeoutMillis) {
+        super("락 획득 대기 시간 초과: userId=" + userId + " timeoutMillis=" + timeoutMillis);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.lock;
+
+public record StripeStats(
+        int stripe,
+        long acquisitions,
+        long contended,
+        long totalWaitNanos,
+        long maxWaitNanos,
+        int queueLength
+) {
+}
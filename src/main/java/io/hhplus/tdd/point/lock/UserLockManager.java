@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 락 관리
+ * - 고정 크기 배열의 락을 userId 해시로 나눠 쓰는 방식 (striped lock)
+ * - 락을 만들거나 지우지 않으므로 같은 유저가 서로 다른 락을 잡는 경우가 없고, 호출마다 락을 새로 만들지도 않음
+ * - 서로 다른 유저가 같은 stripe 에 걸릴 수 있으므로 stripe 수는 동시에 요청하는 유저 수보다 넉넉하게 설정
+ * - 두 유저의 락이 필요한 경우 항상 stripe 번호가 작은 쪽부터 잡으므로 서로 반대 방향으로 잡다가 교착 상태에 빠지지 않음
+ * - stripe 별로 획득 횟수, 경합 횟수, 대기 시간, 대기열 길이를 집계하고, 전체 합계와 대기 시간 분포는 PointMetrics 로 내보냄
+ */
+@Component
+public class UserLockManager {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final long timeoutMillis;
+    private final PointMetrics pointMetrics;
+
+    private final AtomicLongArray acquisitions;
+    private final AtomicLongArray contended;
+    private final AtomicLongArray totalWaitNanos;
+    private final AtomicLongArray maxWaitNanos;
+
+    public UserLockManager(UserLockProperties properties, PointMetrics pointMetrics) {
+        int stripes = properties.stripes();
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock(properties.fair());
+        }
+        this.mask = stripes - 1;
+        this.timeoutMillis = properties.timeoutMillis();
+        this.pointMetrics = pointMetrics;
+        this.acquisitions = new AtomicLongArray(stripes);
+        this.contended = new AtomicLongArray(stripes);
+        this.totalWaitNanos = new AtomicLongArray(stripes);
+        this.maxWaitNanos = new AtomicLongArray(stripes);
+        pointMetrics.gaugeLocks(this::stats);
+    }
+
+    // 유저 락을 잡은 상태로 action 실행
+    public <T> T withLock(long userId, Supplier<T> action) {
+        int stripe = stripeOf(userId);
+        lock(userId, stripe);
+        try {
+            return action.get();
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    // 두 유저의 락을 stripe 번호 순서로 잡은 상태로 action 실행 (같은 stripe 면 한 번만)
+    public <T> T withLocks(long userId, long otherUserId, Supplier<T> action) {
+        int stripe = stripeOf(userId);
+        int otherStripe = stripeOf(otherUserId);
+        if (stripe == otherStripe) {
+            return withLock(userId, action);
+        }
+
+        int first = Math.min(stripe, otherStripe);
+        int second = Math.max(stripe, otherStripe);
+        lock(first == stripe ? userId : otherUserId, first);
+        try {
+            lock(second == stripe ? userId : otherUserId, second);
+            try {
+                return action.get();
+            } finally {
+                locks[second].unlock();
+            }
+        } finally {
+            locks[first].unlock();
+        }
+    }
+
+    public int stripeOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public int stripeCount() {
+        return locks.length;
+    }
+
+    public StripeStats stats(int stripe) {
+        return new StripeStats(stripe, acquisitions.get(stripe), contended.get(stripe),
+            totalWaitNanos.get(stripe), maxWaitNanos.get(stripe), locks[stripe].getQueueLength());
+    }
+
+    public List<StripeStats> stats() {
+        List<StripeStats> stats = new ArrayList<>(locks.length);
+        for (int i = 0; i < locks.length; i++) {
+            stats.add(stats(i));
+        }
+
+        return stats;
+    }
+
+    private void lock(long userId, int stripe) {
+        ReentrantLock lock = locks[stripe];
+        acquisitions.incrementAndGet(stripe);
+
+        // 경합이 없으면 시간 측정 없이 바로 획득 (타임아웃 0 의 tryLock 은 공정 모드의 대기열 순서도 지킴)
+        if (tryAcquire(lock, userId, 0L)) {
+            pointMetrics.recordLockWait(0L);
+            return;
+        }
+
+        long start = System.nanoTime();
+        acquire(lock, userId);
+        long waited = System.nanoTime() - start;
+        pointMetrics.recordLockWait(waited);
+
+        contended.incrementAndGet(stripe);
+        totalWaitNanos.addAndGet(stripe, waited);
+        maxWaitNanos.accumulateAndGet(stripe, waited, Math::max);
+    }
+
+    private void acquire(ReentrantLock lock, long userId) {
+        if (timeoutMillis == 0) {
+            lock.lock();
+            return;
+        }
+
+        if (!tryAcquire(lock, userId, timeoutMillis)) {
+            throw new LockTimeoutException(userId, timeoutMillis);
+        }
+    }
+
+    private boolean tryAcquire(ReentrantLock lock, long userId, long waitMillis) {
+        try {
+            return lock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockTimeoutException(userId, waitMillis);
+        }
+    }
+}
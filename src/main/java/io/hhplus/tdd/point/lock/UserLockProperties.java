@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.lock")
+public record UserLockProperties(
+        @DefaultValue("1024") int stripes,
+        @DefaultValue("false") boolean fair,
+        @DefaultValue("0") long timeoutMillis
+) {
+
+    public UserLockProperties {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("point.lock.stripes 는 2의 거듭제곱이어야 함");
+        }
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("point.lock.timeout-millis 는 0 이상이어야 함");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.metrics;
+
+/**
+ * PointAdmission 이 요청을 받지 않은 이유 (reason 태그 값)
+ * - USER_RATE : 유저의 초당 요청 수 초과 (token bucket 이 비어 있음)
+ * - USER_PENDING : 유저의 처리 대기 중인 요청 수 초과
+ * - CONCURRENCY : 전체 처리 중인 요청 수 초과
+ */
+public enum AdmissionRejection {
+    USER_RATE("user_rate"),
+    USER_PENDING("user_pending"),
+    CONCURRENCY("concurrency");
+
+    private final String reason;
+
+    AdmissionRejection(String reason) {
+        this.reason = reason;
+    }
+
+    public String reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,221 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.cache.CacheStats;
+import io.hhplus.tdd.point.engine.GroupCommitStats;
+import io.hhplus.tdd.point.engine.ShardStats;
+import io.hhplus.tdd.point.lock.StripeStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 처리 지표
+ * - 저장소 메서드별 처리 시간(point.repository), 유저 락 대기 시간(point.lock.wait), 검증 거절 횟수(point.validation.rejections)
+ * - Idempotency-Key 중복 요청 수(point.idempotency.hits), 캐시 항목 수와 추정 메모리(point.idempotency.entries, point.idempotency.memory)
+ * - 요청 수 제한으로 받지 않은 요청 수(point.admission.rejections), 처리 중인 요청 수와 상태를 들고 있는 유저 수(point.admission.in_flight, point.admission.users)
+ * - 유저 락 stripe 전체의 획득 횟수, 경합 횟수, 대기 중인 스레드 수(point.lock.acquisitions, point.lock.contended, point.lock.queue)
+ * - 유저 포인트 캐시 적중/미스/제거 횟수와 항목 수(point.cache.hits, point.cache.misses, point.cache.evictions, point.cache.entries)
+ * - shard 엔진의 shard 별 메일박스 크기, 처리한 요청 수, 저장 횟수, 배치 처리 시간(point.engine.shard.queue, point.engine.shard.processed, point.engine.shard.writes, point.engine.shard.batches)
+ * - group-commit 엔진의 저장 횟수와 반영한 요청 수(point.engine.group_commit.writes, point.engine.group_commit.requests)
+ * - 포인트 변경 SSE 구독자 수(point.events.subscribers), 보낸 이벤트 수(point.events.delivered), 느린 구독자에게 건너뛴 이벤트 수(point.events.coalesced)
+ * - 미터는 생성할 때 한 번만 등록하고, 호출 경로에서는 태그 생성이나 레지스트리 조회 없이 배열에서 꺼내 기록만 함
+ * - 컨트롤러 엔드포인트별 처리 시간은 actuator 가 수집하는 http.server.requests 를 사용
+ */
+@Component
+public class PointMetrics {
+
+    private final Timer[] repositoryTimers;
+    private final Timer lockWait;
+    private final Counter[] rejections;
+    private final Counter[] admissionRejections;
+    private final Counter idempotencyCompletedHits;
+    private final Counter idempotencyInFlightHits;
+    private final Counter eventsDelivered;
+    private final Counter eventsCoalesced;
+    private final MeterRegistry meterRegistry;
+    // FunctionCounter 와 객체를 넘긴 Gauge 는 대상을 약하게 참조하므로, 넘겨받은 stats supplier 를 여기서 붙잡아 둠
+    private final List<Supplier<?>> statsSources = new CopyOnWriteArrayList<>();
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        RepositoryOperation[] operations = RepositoryOperation.values();
+        this.repositoryTimers = new Timer[operations.length];
+        for (RepositoryOperation operation : operations) {
+            repositoryTimers[operation.ordinal()] = Timer.builder("point.repository")
+                .description("PointRepository 메서드 처리 시간")
+                .tag("method", operation.method())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+
+        this.lockWait = Timer.builder("point.lock.wait")
+            .description("유저 락 획득까지 대기한 시간 (경합이 없으면 0)")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(1_000))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry);
+
+        Rejection[] reasons = Rejection.values();
+        this.rejections = new Counter[reasons.length];
+        for (Rejection rejection : reasons) {
+            rejections[rejection.ordinal()] = Counter.builder("point.validation.rejections")
+                .description("PointValidator 가 거절한 요청 수")
+                .tag("reason", rejection.reason())
+                .register(meterRegistry);
+        }
+
+        AdmissionRejection[] admissionReasons = AdmissionRejection.values();
+        this.admissionRejections = new Counter[admissionReasons.length];
+        for (AdmissionRejection rejection : admissionReasons) {
+            admissionRejections[rejection.ordinal()] = Counter.builder("point.admission.rejections")
+                .description("요청 수 제한으로 받지 않은 (429) 요청 수")
+                .tag("reason", rejection.reason())
+                .register(meterRegistry);
+        }
+
+        this.idempotencyCompletedHits = idempotencyHits(meterRegistry, "completed");
+        this.idempotencyInFlightHits = idempotencyHits(meterRegistry, "in_flight");
+
+        this.eventsDelivered = Counter.builder("point.events.delivered")
+            .description("SSE 구독자에게 보낸 포인트 변경 이벤트 수")
+            .register(meterRegistry);
+        this.eventsCoalesced = Counter.builder("point.events.coalesced")
+            .description("구독자가 앞선 이벤트를 아직 받지 못해 더 최근 이벤트로 대체한 수")
+            .register(meterRegistry);
+    }
+
+    // startNanos 는 호출 전에 잰 System.nanoTime()
+    public void recordRepository(RepositoryOperation operation, long startNanos) {
+        repositoryTimers[operation.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockWait(long waitNanos) {
+        lockWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countRejection(Rejection rejection) {
+        rejections[rejection.ordinal()].increment();
+    }
+
+    public void countAdmissionRejection(AdmissionRejection rejection) {
+        admissionRejections[rejection.ordinal()].increment();
+    }
+
+    // inFlight : 처음 요청이 아직 처리 중이라 그 결과를 기다리는 경우
+    public void countIdempotencyHit(boolean inFlight) {
+        (inFlight ? idempotencyInFlightHits : idempotencyCompletedHits).increment();
+    }
+
+    public void gaugeIdempotencyCache(Supplier<Number> entries, Supplier<Number> estimatedBytes) {
+        Gauge.builder("point.idempotency.entries", entries)
+            .description("Idempotency-Key 캐시 항목 수")
+            .register(meterRegistry);
+        Gauge.builder("point.idempotency.memory", estimatedBytes)
+            .description("Idempotency-Key 캐시가 차지하는 추정 메모리")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    public void gaugeAdmission(Supplier<Number> inFlight, Supplier<Number> users) {
+        Gauge.builder("point.admission.in_flight", inFlight)
+            .description("받아서 처리 중인 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("point.admission.users", users)
+            .description("요청 수 제한 상태를 들고 있는 유저 수")
+            .register(meterRegistry);
+    }
+
+    public void gaugeLocks(Supplier<List<StripeStats>> stats) {
+        statsSources.add(stats);
+        FunctionCounter.builder("point.lock.acquisitions", stats,
+                s -> s.get().stream().mapToLong(StripeStats::acquisitions).sum())
+            .description("유저 락 획득 횟수 (전체 stripe 합계)")
+            .register(meterRegistry);
+        FunctionCounter.builder("point.lock.contended", stats,
+                s -> s.get().stream().mapToLong(StripeStats::contended).sum())
+            .description("다른 스레드가 잡고 있어서 기다린 유저 락 획득 횟수 (전체 stripe 합계)")
+            .register(meterRegistry);
+        Gauge.builder("point.lock.queue", stats, s -> s.get().stream().mapToInt(StripeStats::queueLength).sum())
+            .description("유저 락을 기다리는 스레드 수 (전체 stripe 합계, 추정값)")
+            .register(meterRegistry);
+    }
+
+    public void gaugeCache(Supplier<CacheStats> stats) {
+        statsSources.add(stats);
+        FunctionCounter.builder("point.cache.hits", stats, s -> s.get().hits())
+            .description("유저 포인트 캐시 적중 횟수")
+            .register(meterRegistry);
+        FunctionCounter.builder("point.cache.misses", stats, s -> s.get().misses())
+            .description("유저 포인트 캐시 미스 횟수")
+            .register(meterRegistry);
+        FunctionCounter.builder("point.cache.evictions", stats, s -> s.get().evictions())
+            .description("자리가 없어 캐시에서 제거한 항목 수")
+            .register(meterRegistry);
+        Gauge.builder("point.cache.entries", stats, s -> s.get().size())
+            .description("유저 포인트 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    public void gaugeShard(int shard, Supplier<ShardStats> stats) {
+        statsSources.add(stats);
+        String tag = String.valueOf(shard);
+        Gauge.builder("point.engine.shard.queue", stats, s -> s.get().queueDepth())
+            .description("shard 메일박스에 쌓인 요청 수")
+            .tag("shard", tag)
+            .register(meterRegistry);
+        FunctionCounter.builder("point.engine.shard.processed", stats, s -> s.get().processed())
+            .description("shard 가 처리한 요청 수")
+            .tag("shard", tag)
+            .register(meterRegistry);
+        FunctionCounter.builder("point.engine.shard.writes", stats, s -> s.get().writes())
+            .description("shard 가 테이블에 저장한 횟수 (배치 안의 같은 유저 변경은 한 번)")
+            .tag("shard", tag)
+            .register(meterRegistry);
+        FunctionTimer.builder("point.engine.shard.batches", stats, s -> s.get().batches(),
+                s -> s.get().totalServiceNanos(), TimeUnit.NANOSECONDS)
+            .description("shard 가 처리한 배치 수와 처리 시간")
+            .tag("shard", tag)
+            .register(meterRegistry);
+    }
+
+    public void gaugeGroupCommit(Supplier<GroupCommitStats> stats) {
+        statsSources.add(stats);
+        FunctionCounter.builder("point.engine.group_commit.writes", stats, s -> s.get().writes())
+            .description("group commit 으로 테이블에 저장한 횟수")
+            .register(meterRegistry);
+        FunctionCounter.builder("point.engine.group_commit.requests", stats, s -> s.get().requests())
+            .description("group commit 으로 저장에 반영한 요청 수")
+            .register(meterRegistry);
+    }
+
+    public void countEventDelivered() {
+        eventsDelivered.increment();
+    }
+
+    public void countEventCoalesced() {
+        eventsCoalesced.increment();
+    }
+
+    public void gaugeEventSubscribers(Supplier<Number> subscribers) {
+        Gauge.builder("point.events.subscribers", subscribers)
+            .description("포인트 변경 SSE 구독자 수")
+            .register(meterRegistry);
+    }
+
+    private static Counter idempotencyHits(MeterRegistry meterRegistry, String state) {
+        return Counter.builder("point.idempotency.hits")
+            .description("같은 Idempotency-Key 로 다시 와서 실행하지 않은 요청 수")
+            .tag("state", state)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.metrics;
+
+/**
+ * PointValidator 가 요청을 거절한 이유 (reason 태그 값)
+ * - NON_POSITIVE_AMOUNT : 충전/사용 포인트가 0 이하
+ * - INSUFFICIENT_POINT : 사용 후 포인트가 0 미만
+ */
+public enum Rejection {
+    NON_POSITIVE_AMOUNT("non_positive_amount"),
+    INSUFFICIENT_POINT("insufficient_point");
+
+    private final String reason;
+
+    Rejection(String reason) {
+        this.reason = reason;
+    }
+
+    public String reason() {
+        return reason;
+    }
+}
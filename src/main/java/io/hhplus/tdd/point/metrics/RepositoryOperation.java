@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.metrics;
+
+/**
+ * 처리 시간을 재는 PointRepository 메서드 (method 태그 값)
+ */
+public enum RepositoryOperation {
+    FIND_USER_POINT("findUserPointById"),
+    FIND_POINT_HISTORY("findPointHistoryById"),
+    FIND_POINT_SUMMARY("findPointSummaryById"),
+    FIND_POINT_AGGREGATE("findPointAggregateById"),
+    SAVE_POINT("savePoint"),
+    SAVE_POINT_CHANGE("savePointChange"),
+    SAVE_TRANSFER("saveTransfer");
+
+    private final String method;
+
+    RepositoryOperation(String method) {
+        this.method = method;
+    }
+
+    public String method() {
+        return method;
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.async")
+public record AsyncPointProperties(
+        @DefaultValue("64") int poolSize,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("10000") long timeoutMillis
+) {
+
+    public AsyncPointProperties {
+        if (poolSize < 1 || queueCapacity < 1 || timeoutMillis < 1) {
+            throw new IllegalArgumentException("point.async 의 pool-size, queue-capacity, timeout-millis 는 1 이상이어야 함");
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.admission.AdmissionRejectedException;
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.PointSummary;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * PointService 의 비동기 버전
+ * - 전용 스레드 풀(크기, 대기열 제한)에서 실행하고 CompletableFuture 로 결과를 반환
+ * - 같은 유저의 요청은 앞선 요청이 끝난 뒤에 실행되므로 요청 순서가 유지됨 (엔진의 락이 공정하지 않아도 순서가 바뀌지 않음)
+ *   - 앞선 요청을 기다리는 동안은 풀의 대기열을 차지하지 않고, 기다리는 수는 PointAdmission 의 유저별 대기 수로 제한
+ * - 대기열이 가득 차면 RejectedExecutionException, 제한 시간 안에 끝나지 않으면 TimeoutException 으로 완료
+ * - 요청마다 PointAdmission 을 먼저 거쳐서, 유저별 속도/대기 수나 전체 처리 수를 넘으면 줄 세우지 않고 AdmissionRejectedException 으로 완료
+ * - 가상 스레드 모드(spring.threads.virtual.enabled)에서는 풀의 스레드도 가상 스레드로 생성
+ * - Idempotency-Key 를 붙인 충전/사용은 같은 key 의 앞선 요청 결과를 재사용 (처리 중이면 그 결과를 기다림)
+ * - 일괄 처리는 유저별로 묶어서 유저 하나를 작업 하나로 실행 (유저 안에서는 요청 순서대로, 유저끼리는 병렬)
+ *   - 한꺼번에 대기열에 넣지 않고 풀 크기만큼만 실행 중으로 두고, 하나가 끝나면 다음 유저를 넣음
+ *   - 유저 작업마다 PointAdmission 을 거치고, 일괄 처리 전체에 제한 시간을 걸어서 넘기면 시작하지 않은 유저는 실행하지 않음
+ */
+@Service
+public class AsyncPointService {
+
+    public static final int MAX_BATCH_SIZE = 100_000;
+
+    private final PointService pointService;
+    private final IdempotencyCache idempotencyCache;
+    private final PointAdmission pointAdmission;
+    private final long timeoutMillis;
+    private final int batchConcurrency;
+    private final ThreadPoolExecutor executor;
+
+    // 유저별로 마지막에 등록된 작업, 다음 작업은 이 작업이 끝난 뒤에 실행
+    private final ConcurrentHashMap<Long, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+
+    public AsyncPointService(PointService pointService, IdempotencyCache idempotencyCache, PointAdmission pointAdmission,
+            AsyncPointProperties properties, Environment environment) {
+        this.pointService = pointService;
+        this.idempotencyCache = idempotencyCache;
+        this.pointAdmission = pointAdmission;
+        this.timeoutMillis = properties.timeoutMillis();
+        this.batchConcurrency = properties.poolSize();
+        this.executor = new ThreadPoolExecutor(properties.poolSize(), properties.poolSize(), 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()), threadFactory(environment),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<UserPoint> getUserPoint(long id) {
+        return submit(id, () -> pointService.getUserPoint(id));
+    }
+
+    public CompletableFuture<List<PointHistory>> getHistory(long id) {
+        return submit(id, () -> pointService.getHistory(id));
+    }
+
+    public CompletableFuture<PointHistoryPage> getHistory(long id, PointHistoryQuery query, int size) {
+        return submit(id, () -> pointService.getHistory(id, query, size));
+    }
+
+    // 응답이 먼저 끝나면 (시간 초과 등) 그 뒤로는 visitor 에 넘기지 않고 읽기를 멈춤
+    public CompletableFuture<Void> streamHistory(long id, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        CompletableFuture<Void> future = submit(id, () -> {
+            pointService.streamHistory(id, query, pointHistory -> !finished.get() && visitor.test(pointHistory));
+            return null;
+        });
+        future.whenComplete((result, e) -> finished.set(true));
+        return future;
+    }
+
+    public CompletableFuture<PointSummary> getSummary(long id) {
+        return submit(id, () -> pointService.getSummary(id));
+    }
+
+    public CompletableFuture<PointAggregate> getAggregate(long id) {
+        return submit(id, () -> pointService.getAggregate(id));
+    }
+
+    public CompletableFuture<PointAggregate> rebuildAggregate(long id) {
+        return submit(id, () -> pointService.rebuildAggregate(id));
+    }
+
+    public CompletableFuture<UserPoint> chargePoint(long id, long amount) {
+        return submit(id, () -> pointService.chargePoint(id, amount));
+    }
+
+    public CompletableFuture<UserPoint> usePoint(long id, long amount) {
+        return submit(id, () -> pointService.usePoint(id, amount));
+    }
+
+    public CompletableFuture<UserPoint> chargePoint(long id, long amount, String idempotencyKey) {
+        return submitOnce(idempotencyKey, new PointOperation(id, amount, TransactionType.CHARGE),
+            () -> pointService.chargePoint(id, amount));
+    }
+
+    public CompletableFuture<UserPoint> usePoint(long id, long amount, String idempotencyKey) {
+        return submitOnce(idempotencyKey, new PointOperation(id, amount, TransactionType.USE),
+            () -> pointService.usePoint(id, amount));
+    }
+
+    // 보내는 유저의 요청 순서를 따름 (받는 유저와의 동시 실행은 엔진이 막음)
+    public CompletableFuture<PointTransfer> transfer(long fromId, long toId, long amount) {
+        return submit(fromId, () -> pointService.transfer(fromId, toId, amount));
+    }
+
+    // 결과는 요청 순서대로, 실패한 건은 실패 이유와 함께 반환 (다른 건은 계속 처리)
+    public CompletableFuture<List<PointOperationResult>> applyBatch(List<PointOperation> operations) {
+        if (operations.size() > MAX_BATCH_SIZE) {
+            return CompletableFuture.failedFuture(
+                new IllegalArgumentException("일괄 처리는 " + MAX_BATCH_SIZE + " 건 이하"));
+        }
+        if (operations.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        Map<Long, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            groups.computeIfAbsent(operations.get(i).userId(), userId -> new ArrayList<>()).add(i);
+        }
+
+        Batch batch = new Batch(operations, groups);
+        // 시간 초과로 먼저 응답하면 아직 시작하지 않은 유저는 실행하지 않음 (이미 시작한 유저는 끝까지 처리)
+        CompletableFuture<List<PointOperationResult>> response = batch.done.copy()
+            .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        response.whenComplete((results, e) -> {
+            if (e != null) {
+                batch.abandoned = e;
+            }
+        });
+        for (int i = Math.min(groups.size(), batchConcurrency); i > 0; i--) {
+            applyNextGroup(batch);
+        }
+        return response;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> CompletableFuture<T> submit(long id, Supplier<T> task) {
+        // 시간 초과는 응답용 복사본에만 걸어서, 시간 초과로 먼저 응답해도 요청 수 제한의 자리는 작업이 실제로 끝날 때 반납
+        try {
+            return admitted(id, task).copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (AdmissionRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 같은 key 로 처음 온 요청만 실행, 시간 초과는 submit 과 같이 응답용 복사본에만 걸어서 원래 작업의 결과는 캐시에 남김
+    private <T> CompletableFuture<T> submitOnce(String idempotencyKey, PointOperation operation, Supplier<T> task) {
+        try {
+            return idempotencyCache.execute(idempotencyKey, operation, () -> admitted(operation.userId(), task))
+                .copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 요청 수 제한을 통과한 경우에만 등록하고, 작업이 끝나면 (시간 초과로 먼저 응답했더라도 실제로 끝날 때) 반납
+    private <T> CompletableFuture<T> admitted(long id, Supplier<T> task) {
+        PointAdmission.Permit permit = pointAdmission.acquire(id);
+        CompletableFuture<T> future = chain(id, task);
+        future.whenComplete((result, e) -> permit.release());
+        return future;
+    }
+
+    // 유저의 앞선 작업이 끝난 뒤에 실행되도록 등록하고, 끝나면 (뒤에 등록된 작업이 없을 때) tails 에서 지움
+    private <T> CompletableFuture<T> chain(long id, Supplier<T> task) {
+        CompletableFuture<T> next = new CompletableFuture<>();
+        CompletableFuture<?> previous = tails.put(id, next);
+        next.whenComplete((result, e) -> tails.remove(id, next));
+
+        Runnable run = () -> {
+            try {
+                next.complete(task.get());
+            } catch (RuntimeException e) {
+                next.completeExceptionally(e);
+            }
+        };
+        if (previous == null) {
+            execute(run, next);
+        } else {
+            previous.whenComplete((result, e) -> execute(run, next));
+        }
+
+        return next;
+    }
+
+    // 풀에서 실행, 대기열이 가득 차면 RejectedExecutionException 으로 완료
+    private void execute(Runnable run, CompletableFuture<?> future) {
+        try {
+            executor.execute(run);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    // 아직 시작하지 않은 유저 하나를 실행하고, 끝나면 다음 유저를 이어서 실행
+    // (유저마다 PointAdmission 을 거쳐서, 거절된 유저의 건은 실행하지 않고 실패로 반환)
+    private void applyNextGroup(Batch batch) {
+        Map.Entry<Long, List<Integer>> group;
+        while ((group = batch.next()) != null) {
+            List<Integer> indexes = group.getValue();
+            if (batch.abandoned != null) {
+                batch.finish(indexes, batch.abandoned);
+                continue;
+            }
+
+            CompletableFuture<Void> applied;
+            try {
+                applied = admitted(group.getKey(), () -> {
+                    for (int index : indexes) {
+                        batch.apply(index);
+                    }
+                    return null;
+                });
+            } catch (AdmissionRejectedException e) {
+                applied = CompletableFuture.failedFuture(e);
+            }
+
+            // 바로 끝난 경우 (요청 수 제한, 대기열이 가득 차서 거절 등) 콜백에서 다시 부르지 않고 여기서 다음 유저로 넘어감
+            if (applied.isDone()) {
+                applied.whenComplete((result, e) -> batch.finish(indexes, e));
+                continue;
+            }
+            applied.whenComplete((result, e) -> {
+                batch.finish(indexes, e);
+                applyNextGroup(batch);
+            });
+            return;
+        }
+    }
+
+    private static ThreadFactory threadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("point-async-").getVirtualThreadFactory();
+        }
+
+        return new CustomizableThreadFactory("point-async-");
+    }
+
+    /**
+     * 진행 중인 일괄 처리 한 건
+     */
+    private final class Batch {
+
+        private final List<PointOperation> operations;
+        private final Iterator<Map.Entry<Long, List<Integer>>> pending;
+        private final PointOperationResult[] results;
+        private final AtomicInteger remaining;
+        private final CompletableFuture<List<PointOperationResult>> done = new CompletableFuture<>();
+        // 응답이 시간 초과로 먼저 끝난 경우 그 이유
+        private volatile Throwable abandoned;
+
+        Batch(List<PointOperation> operations, Map<Long, List<Integer>> groups) {
+            this.operations = operations;
+            this.pending = groups.entrySet().iterator();
+            this.results = new PointOperationResult[operations.size()];
+            this.remaining = new AtomicInteger(groups.size());
+        }
+
+        synchronized Map.Entry<Long, List<Integer>> next() {
+            return pending.hasNext() ? pending.next() : null;
+        }
+
+        void apply(int index) {
+            PointOperation operation = operations.get(index);
+            try {
+                results[index] = PointOperationResult.success(operation, pointService.apply(operation));
+            } catch (RuntimeException e) {
+                results[index] = PointOperationResult.failure(operation, e);
+            }
+        }
+
+        // 유저 작업 자체가 실행되지 못한 경우 (요청 수 제한, 대기열 가득 참, 시간 초과 등) 그 유저의 남은 건을 모두 실패 처리
+        void finish(List<Integer> indexes, Throwable e) {
+            if (e != null) {
+                for (int index : indexes) {
+                    if (results[index] == null) {
+                        results[index] = PointOperationResult.failure(operations.get(index), e);
+                    }
+                }
+            }
+            if (remaining.decrementAndGet() == 0) {
+                done.complete(Arrays.asList(results));
+            }
+        }
+    }
+}
@@ -2,12 +2,17 @@ package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.PointRepository;
-import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointSummary;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.PointEngine;
 import io.hhplus.tdd.point.validate.PointValidator;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,10 +23,11 @@ import org.springframework.stereotype.Service;
 public class PointService {
 
     private static final Logger log = LoggerFactory.getLogger(PointService.class);
+    public static final int MAX_HISTORY_PAGE_SIZE = 1000;
+
     private final PointRepository pointRepository;
     private final PointValidator pointValidator;
-
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    private final PointEngine pointEngine;
 
     public UserPoint getUserPoint(long id) {
 
@@ -43,50 +49,68 @@ public class PointService {
         return pointRepository.findPointHistoryById(id);
     }
 
-    public UserPoint chargePoint(long id, long amount) {
+    // cursor 다음부터 size 건, 더 남아 있으면 마지막 항목의 id 를 다음 cursor 로 반환
+    public PointHistoryPage getHistory(long id, PointHistoryQuery query, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하");
+        }
 
-        lockMap.putIfAbsent(id, new ReentrantLock());
-        ReentrantLock lock = lockMap.get(id);
+        List<PointHistory> histories = pointRepository.findPointHistoryById(id, query, size + 1);
+        if (histories.size() <= size) {
+            return new PointHistoryPage(histories, null);
+        }
 
-        lock.lock();
+        List<PointHistory> page = histories.subList(0, size);
+        return new PointHistoryPage(List.copyOf(page), page.get(size - 1).id());
+    }
 
-        try {
-            // 적립할 포인트 0 이하인지 체크
-            pointValidator.validatePointAmountBelowZero(amount);
+    public PointSummary getSummary(long id) {
+        if (id < 1L) {
+            throw new IllegalArgumentException("유효하지 않은 id 값");
+        }
 
-            UserPoint userPoint = pointRepository.savePoint(id, amount);
-            pointRepository.savePointHistory(id, amount, TransactionType.CHARGE);
+        return pointRepository.findPointSummaryById(id);
+    }
 
-            return userPoint;
-        } finally {
-            lock.unlock();
-            lockMap.remove(id);
+    public PointAggregate getAggregate(long id) {
+        if (id < 1L) {
+            throw new IllegalArgumentException("유효하지 않은 id 값");
         }
 
+        return pointRepository.findPointAggregateById(id);
     }
 
-    public UserPoint usePoint(long id, long amount) {
+    // 집계를 히스토리에서 다시 계산 (집계가 히스토리와 어긋났을 때 복구용)
+    public PointAggregate rebuildAggregate(long id) {
+        if (id < 1L) {
+            throw new IllegalArgumentException("유효하지 않은 id 값");
+        }
 
-        lockMap.putIfAbsent(id, new ReentrantLock());
-        ReentrantLock lock = lockMap.get(id);
+        return pointRepository.rebuildPointAggregate(id);
+    }
 
-        lock.lock();
+    // 조건에 맞는 히스토리를 읽는 대로 visitor 에 넘김
+    public void streamHistory(long id, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        pointRepository.scanPointHistoryById(id, query, visitor);
+    }
 
-        try {
-            // 사용할 포인트 0 이하인지 체크
-            pointValidator.validatePointAmountBelowZero(amount);
+    public UserPoint chargePoint(long id, long amount) {
+        return pointEngine.charge(id, amount);
+    }
 
-            // 포인트를 썼을 때 0 이상인지 체크
-            UserPoint findUserPoint = pointRepository.findUserPointById(id);
-            pointValidator.validateTotalPointAmount(findUserPoint.point(), amount);
+    public UserPoint usePoint(long id, long amount) {
+        return pointEngine.use(id, amount);
+    }
 
-            UserPoint userPoint = pointRepository.savePoint(id, findUserPoint.point() - amount);
-            pointRepository.savePointHistory(id, amount, TransactionType.USE);
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        return pointEngine.transfer(fromId, toId, amount);
+    }
 
-            return userPoint;
-        } finally {
-            lock.unlock();
-            lockMap.remove(id); // 사용이 끝난 락 삭제
-        }
+    // 일괄 처리 요청 한 건 적용
+    public UserPoint apply(PointOperation operation) {
+        return switch (operation.type()) {
+            case CHARGE -> chargePoint(operation.userId(), operation.amount());
+            case USE -> usePoint(operation.userId(), operation.amount());
+        };
     }
 }
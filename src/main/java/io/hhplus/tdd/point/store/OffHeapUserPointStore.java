@@ -0,0 +1,191 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * direct ByteBuffer 에 저장하는 유저 포인트 저장소
+ * - 슬롯 하나가 [id, point, updateMillis] long 3개 (24 byte), 빈 슬롯은 id 를 EMPTY 로 표시
+ * - open addressing (linear probing), 슬롯의 75% 가 차면 두 배로 늘림
+ * - 유저마다 Long, UserPoint, HashMap.Node 객체를 두지 않으므로 힙을 차지하지 않고, UserPoint 는 반환할 때만 만듦
+ * - 조회는 StampedLock 의 낙관적 읽기로 락 없이 처리하고, 그 사이 쓰기가 있었으면 읽기 락으로 다시 읽음
+ * - 유저를 지우는 기능은 없음 (UserPointTable 과 같음)
+ */
+@Component
+@ConditionalOnProperty(name = "point.store.type", havingValue = "off-heap")
+public class OffHeapUserPointStore implements UserPointStore {
+
+    private static final int SLOT_SIZE = Long.BYTES * 3;
+    private static final int POINT_OFFSET = Long.BYTES;
+    private static final int MILLIS_OFFSET = Long.BYTES * 2;
+    private static final int MAX_SLOTS = Integer.highestOneBit(Integer.MAX_VALUE / SLOT_SIZE);
+
+    // 빈 슬롯 표시용 id, 이 id 를 가진 유저는 슬롯 대신 아래 필드에 저장
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final StampedLock lock = new StampedLock();
+    private ByteBuffer slots;
+    private int size;
+    private boolean hasEmptyId;
+    private long emptyIdPoint;
+    private long emptyIdMillis;
+
+    public OffHeapUserPointStore(UserPointStoreProperties properties) {
+        this.slots = allocate(slotCountFor(properties.initialCapacity()));
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            UserPoint userPoint = find(id);
+            if (lock.validate(stamp)) {
+                return userPoint;
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return find(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long updateMillis = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            put(id, amount, updateMillis);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 슬롯에 할당된 off-heap 메모리 (byte)
+    public long capacityBytes() {
+        long stamp = lock.readLock();
+        try {
+            return slots.capacity();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 낙관적 읽기 중에는 다른 스레드가 슬롯을 바꿀 수 있으므로, 한 번 읽은 버퍼 기준으로만 보고 탐색 횟수도 슬롯 수로 제한
+    private UserPoint find(long id) {
+        if (id == EMPTY) {
+            return hasEmptyId ? new UserPoint(id, emptyIdPoint, emptyIdMillis) : UserPoint.empty(id);
+        }
+
+        ByteBuffer buffer = slots;
+        int mask = buffer.capacity() / SLOT_SIZE - 1;
+        int slot = indexOf(id, mask);
+        for (int probe = 0; probe <= mask; probe++) {
+            int offset = slot * SLOT_SIZE;
+            long key = buffer.getLong(offset);
+            if (key == id) {
+                return new UserPoint(id, buffer.getLong(offset + POINT_OFFSET), buffer.getLong(offset + MILLIS_OFFSET));
+            }
+            if (key == EMPTY) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return UserPoint.empty(id);
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void put(long id, long point, long updateMillis) {
+        if (id == EMPTY) {
+            hasEmptyId = true;
+            emptyIdPoint = point;
+            emptyIdMillis = updateMillis;
+            return;
+        }
+
+        int offset = offsetFor(slots, id);
+        if (slots.getLong(offset) == EMPTY) {
+            if ((size + 1) * 4L > (slots.capacity() / SLOT_SIZE) * 3L) {
+                resize();
+                offset = offsetFor(slots, id);
+            }
+            size++;
+        }
+
+        slots.putLong(offset, id);
+        slots.putLong(offset + POINT_OFFSET, point);
+        slots.putLong(offset + MILLIS_OFFSET, updateMillis);
+    }
+
+    private void resize() {
+        int slotCount = slots.capacity() / SLOT_SIZE;
+        if (slotCount >= MAX_SLOTS) {
+            throw new IllegalStateException("off-heap 포인트 저장소가 가득 참: size=" + size);
+        }
+
+        ByteBuffer old = slots;
+        ByteBuffer resized = allocate(slotCount * 2);
+        for (int offset = 0; offset < old.capacity(); offset += SLOT_SIZE) {
+            long key = old.getLong(offset);
+            if (key == EMPTY) {
+                continue;
+            }
+            int target = offsetFor(resized, key);
+            resized.putLong(target, key);
+            resized.putLong(target + POINT_OFFSET, old.getLong(offset + POINT_OFFSET));
+            resized.putLong(target + MILLIS_OFFSET, old.getLong(offset + MILLIS_OFFSET));
+        }
+        slots = resized;
+    }
+
+    // id 가 있는 슬롯, 없으면 들어갈 빈 슬롯의 위치
+    private static int offsetFor(ByteBuffer buffer, long id) {
+        int mask = buffer.capacity() / SLOT_SIZE - 1;
+        int slot = indexOf(id, mask);
+        while (true) {
+            int offset = slot * SLOT_SIZE;
+            long key = buffer.getLong(offset);
+            if (key == id || key == EMPTY) {
+                return offset;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int indexOf(long id, int mask) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static ByteBuffer allocate(int slotCount) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(slotCount * SLOT_SIZE);
+        for (int offset = 0; offset < buffer.capacity(); offset += SLOT_SIZE) {
+            buffer.putLong(offset, EMPTY);
+        }
+        return buffer;
+    }
+
+    // capacity 명을 넣어도 75% 를 넘지 않는 2의 제곱 슬롯 수
+    private static int slotCountFor(int capacity) {
+        long needed = Math.max(2L, (capacity * 4L + 2) / 3);
+        long slotCount = Long.highestOneBit(needed - 1) << 1;
+        return (int) Math.min(slotCount, MAX_SLOTS);
+    }
+}
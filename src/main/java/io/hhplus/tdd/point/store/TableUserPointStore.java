@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.dto.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserPointTable 을 그대로 사용 (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "point.store.type", havingValue = "table", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TableUserPointStore implements UserPointStore {
+
+    private final UserPointTable userPointTable;
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
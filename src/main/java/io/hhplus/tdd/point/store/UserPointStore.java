@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+/**
+ * 유저 포인트 저장소
+ * - point.store.type 으로 선택 (table : UserPointTable, off-heap : OffHeapUserPointStore)
+ * - 없는 유저는 UserPointTable 과 같이 0 포인트로 조회
+ */
+public interface UserPointStore {
+
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+}
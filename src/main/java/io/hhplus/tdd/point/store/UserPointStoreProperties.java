@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("point.store")
+public record UserPointStoreProperties(
+        @DefaultValue("table") String type,
+        @DefaultValue("1024") int initialCapacity
+) {
+
+    public UserPointStoreProperties {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("point.store.initial-capacity 는 1 이상이어야 함");
+        }
+    }
+}
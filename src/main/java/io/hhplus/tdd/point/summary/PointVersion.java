@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 한 유저의 포인트 상태 한 버전 (바꾸지 않고 새 버전을 만들어 교체)
+ * - version : 이 상태에 반영된 마지막 히스토리 id (0 이면 히스토리 없음)
+ * - point : version 까지의 히스토리를 모두 반영한 포인트
+ * - totalCharged, totalUsed, count : version 까지의 충전 합, 사용 합, 히스토리 건수
+ */
+public record PointVersion(
+        long userId,
+        long version,
+        long point,
+        long updateMillis,
+        long totalCharged,
+        long totalUsed,
+        long count
+) {
+
+    public static PointVersion empty(long userId) {
+        return new PointVersion(userId, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    public PointVersion next(PointHistory pointHistory) {
+        return switch (pointHistory.type()) {
+            case CHARGE -> new PointVersion(userId, pointHistory.id(), point + pointHistory.amount(), pointHistory.updateMillis(),
+                totalCharged + pointHistory.amount(), totalUsed, count + 1);
+            case USE -> new PointVersion(userId, pointHistory.id(), point - pointHistory.amount(), pointHistory.updateMillis(),
+                totalCharged, totalUsed + pointHistory.amount(), count + 1);
+        };
+    }
+}
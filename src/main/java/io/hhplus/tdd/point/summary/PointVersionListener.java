@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 유저의 새 포인트 버전을 받는 listener
+ * - pointHistory : 그 버전을 만든 히스토리
+ */
+@FunctionalInterface
+public interface PointVersionListener {
+
+    void onApplied(PointVersion version, PointHistory pointHistory);
+}
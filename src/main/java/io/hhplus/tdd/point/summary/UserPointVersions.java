@@ -0,0 +1,92 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 최신 포인트 버전 (잔액과 히스토리를 함께 읽기 위한 MVCC 상태)
+ * - 포인트 변경은 모두 히스토리를 남기므로, 버전의 포인트는 그 버전까지의 히스토리 합과 같음
+ * - 히스토리가 저장소에 들어간 뒤에 새 버전으로 교체하므로, 어떤 버전을 읽어도 그 version 이하의 히스토리는 이미 저장소에 있음
+ * - 읽기는 맵에서 현재 버전을 꺼내기만 하고 락을 잡지 않음 (쓰기를 막지 않음)
+ * - 아직 버전이 없는 유저는 (재시작 후 복구된 히스토리 포함) 처음 쓰거나 읽을 때 히스토리 저장소에서 한 번 계산
+ * - 누적 충전/사용 합과 건수도 버전에 함께 들고 있어서 집계 조회는 히스토리를 훑지 않음
+ * - rebuild 는 히스토리 저장소에서 다시 계산해서 교체 (복구용)
+ * - 새 버전이 만들어지면 등록된 PointVersionListener 에 알림 (맵 락 밖에서)
+ */
+@Component
+public class UserPointVersions {
+
+    private final PointHistoryStore pointHistoryStore;
+    private final ConcurrentHashMap<Long, PointVersion> versions = new ConcurrentHashMap<>();
+    private final List<PointVersionListener> listeners = new CopyOnWriteArrayList<>();
+
+    public UserPointVersions(PointHistoryStore pointHistoryStore) {
+        this.pointHistoryStore = pointHistoryStore;
+    }
+
+    // 히스토리 저장소에 반영된 히스토리로 새 버전을 만듦 (이미 반영된 id 면 그대로), 새 버전이면 listener 에 알림
+    public void apply(PointHistory pointHistory) {
+        PointVersion[] applied = new PointVersion[1];
+        versions.compute(pointHistory.userId(), (userId, current) -> {
+            if (current == null) {
+                applied[0] = load(userId);
+                return applied[0];
+            }
+            if (current.version() >= pointHistory.id()) {
+                return current;
+            }
+            applied[0] = current.next(pointHistory);
+            return applied[0];
+        });
+
+        if (applied[0] != null) {
+            for (PointVersionListener listener : listeners) {
+                listener.onApplied(applied[0], pointHistory);
+            }
+        }
+    }
+
+    // 새 버전이 만들어질 때마다 호출 (히스토리를 저장한 스레드에서 바로 호출하므로 listener 는 오래 걸리면 안 됨)
+    public void addListener(PointVersionListener listener) {
+        listeners.add(listener);
+    }
+
+    // 히스토리 저장소에서 다시 계산한 버전으로 교체
+    // (compute 안에서 계산하므로 같은 유저의 apply 와 겹치지 않고, 계산 중 저장소에 들어간 히스토리는 apply 에서 중복으로 더하지 않음)
+    public PointVersion rebuild(long userId) {
+        return versions.compute(userId, (id, current) -> load(id));
+    }
+
+    // 버전을 들고 있는 모든 유저를 다시 계산, 다시 계산한 유저 수 반환
+    public int rebuildAll() {
+        int rebuilt = 0;
+        for (Long userId : versions.keySet()) {
+            rebuild(userId);
+            rebuilt++;
+        }
+        return rebuilt;
+    }
+
+    public PointVersion get(long userId) {
+        PointVersion version = versions.get(userId);
+        if (version != null) {
+            return version;
+        }
+
+        return versions.computeIfAbsent(userId, this::load);
+    }
+
+    private PointVersion load(long userId) {
+        PointVersion[] version = {PointVersion.empty(userId)};
+        pointHistoryStore.scan(userId, PointHistoryQuery.all(), pointHistory -> {
+            version[0] = version[0].next(pointHistory);
+            return true;
+        });
+        return version[0];
+    }
+}
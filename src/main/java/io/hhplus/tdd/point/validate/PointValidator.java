@@ -1,11 +1,17 @@
 package io.hhplus.tdd.point.validate;
 
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.Rejection;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class PointValidator {
 
+    private final PointMetrics pointMetrics;
+
     public boolean validateUserPoint(UserPoint userPoint) {
         if (userPoint == null) {
             return false;
@@ -16,12 +22,14 @@ public class PointValidator {
 
     public void validatePointAmountBelowZero(long amount) {
         if (amount <= 0) {
+            pointMetrics.countRejection(Rejection.NON_POSITIVE_AMOUNT);
             throw new IllegalArgumentException("포인트가 0 이하");
         }
     }
 
     public void validateTotalPointAmount(long beforePoint, long usePoint) {
         if (beforePoint - usePoint < 0) {
+            pointMetrics.countRejection(Rejection.INSUFFICIENT_POINT);
             throw new IllegalArgumentException("사용 후 포인트가 0 미만");
         }
     }
@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.point.cache.EvictionPolicy;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class PointRepositoryTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    private UserPointStore userPointStore;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointJournal pointJournal;
+    private UserPointCache userPointCache;
+    private PointRepository pointRepository;
+
+    private final long userId = 1L;
+    private final List<PointChange> changes = List.of(
+        new PointChange(100L, TransactionType.CHARGE, 100L),
+        new PointChange(30L, TransactionType.USE, 70L));
+    private final List<PointHistory> histories = List.of(
+        new PointHistory(1L, userId, 100L, TransactionType.CHARGE, 10L),
+        new PointHistory(2L, userId, 30L, TransactionType.USE, 10L));
+
+    @BeforeEach
+    void setUp() {
+        userPointStore = mock(UserPointStore.class);
+        pointHistoryWriter = mock(PointHistoryWriter.class);
+        pointJournal = mock(PointJournal.class);
+        userPointCache = new UserPointCache(new UserPointCacheProperties(16, EvictionPolicy.LRU), pointMetrics);
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        pointRepository = new PointRepository(userPointStore, pointHistoryIndex, pointHistoryWriter,
+            new UserPointVersions(pointHistoryIndex), userPointCache, pointJournal, pointMetrics);
+    }
+
+    @Test
+    void 충전_사용은_저널에_먼저_남긴_뒤_저장소와_캐시에_반영하고_히스토리를_기록한다() {
+        // given
+        UserPoint stored = new UserPoint(userId, 70L, 10L);
+        when(pointJournal.appendChanges(eq(userId), eq(changes), anyLong(), any())).thenReturn(histories);
+        when(userPointStore.insertOrUpdate(userId, 70L)).thenReturn(stored);
+
+        // when
+        UserPoint saved = pointRepository.saveReservedPointChanges(userId, changes);
+
+        // then
+        assertThat(saved).isEqualTo(stored);
+        assertThat(userPointCache.get(userId)).isEqualTo(stored);
+        InOrder inOrder = inOrder(pointJournal, userPointStore, pointHistoryWriter);
+        inOrder.verify(pointJournal).appendChanges(eq(userId), eq(changes), anyLong(), any());
+        inOrder.verify(userPointStore).insertOrUpdate(userId, 70L);
+        inOrder.verify(pointJournal).releaseRecoveredPoint(userId);
+        inOrder.verify(pointHistoryWriter).writeReserved(histories.get(0));
+        inOrder.verify(pointHistoryWriter).writeReserved(histories.get(1));
+    }
+
+    @Test
+    void 저널에_남기지_못하면_저장소_캐시_히스토리를_바꾸지_않고_확보한_자리를_모두_반납한다() {
+        // given
+        when(pointJournal.appendChanges(eq(userId), eq(changes), anyLong(), any()))
+            .thenThrow(new UncheckedIOException("포인트 저널 쓰기 실패", new IOException("disk full")));
+
+        // when
+        assertThrows(UncheckedIOException.class, () -> pointRepository.saveReservedPointChanges(userId, changes));
+
+        // then
+        verifyNoInteractions(userPointStore);
+        assertThat(userPointCache.get(userId)).isNull();
+        verify(pointHistoryWriter, never()).writeReserved(any(PointHistory.class));
+        verify(pointHistoryWriter, times(2)).cancelReservation();
+    }
+
+    @Test
+    void 저널에_남은_뒤에는_저장소_저장이_실패해도_발급한_히스토리를_writer_에_넘긴다() {
+        // given
+        when(pointJournal.appendChanges(eq(userId), eq(changes), anyLong(), any())).thenReturn(histories);
+        when(userPointStore.insertOrUpdate(userId, 70L)).thenThrow(new IllegalStateException("off-heap 포인트 저장소가 가득 참"));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> pointRepository.saveReservedPointChanges(userId, changes));
+
+        // then
+        assertThat(userPointCache.get(userId)).isNull();
+        verify(pointHistoryWriter).writeReserved(histories.get(0));
+        verify(pointHistoryWriter).writeReserved(histories.get(1));
+        verify(pointHistoryWriter, never()).cancelReservation();
+    }
+
+    @Test
+    void 송금도_저널에_먼저_남긴_뒤_양쪽_포인트를_저장하고_히스토리를_기록한다() {
+        // given
+        List<PointHistory> transferHistories = List.of(
+            new PointHistory(1L, 1L, 30L, TransactionType.USE, 10L),
+            new PointHistory(2L, 2L, 30L, TransactionType.CHARGE, 10L));
+        when(pointJournal.appendTransfer(any(), any(), eq(30L), any())).thenReturn(transferHistories);
+        when(userPointStore.insertOrUpdate(1L, 70L)).thenReturn(new UserPoint(1L, 70L, 10L));
+        when(userPointStore.insertOrUpdate(2L, 130L)).thenReturn(new UserPoint(2L, 130L, 10L));
+
+        // when
+        pointRepository.saveReservedTransfer(1L, 70L, 2L, 130L, 30L);
+
+        // then
+        InOrder inOrder = inOrder(pointJournal, userPointStore, pointHistoryWriter);
+        inOrder.verify(pointJournal).appendTransfer(any(), any(), eq(30L), any());
+        inOrder.verify(userPointStore).insertOrUpdate(1L, 70L);
+        inOrder.verify(userPointStore).insertOrUpdate(2L, 130L);
+        inOrder.verify(pointHistoryWriter).writeReserved(transferHistories.get(0));
+        inOrder.verify(pointHistoryWriter).writeReserved(transferHistories.get(1));
+    }
+
+    @Test
+    void 송금을_저널에_남기지_못하면_양쪽_포인트를_바꾸지_않고_자리_두_개를_반납한다() {
+        // given
+        when(pointJournal.appendTransfer(any(), any(), anyLong(), any()))
+            .thenThrow(new UncheckedIOException("포인트 저널 쓰기 실패", new IOException("disk full")));
+
+        // when
+        assertThrows(UncheckedIOException.class, () -> pointRepository.saveReservedTransfer(1L, 70L, 2L, 130L, 30L));
+
+        // then
+        verifyNoInteractions(userPointStore);
+        verify(pointHistoryWriter, never()).writeReserved(any(PointHistory.class));
+        verify(pointHistoryWriter, times(2)).cancelReservation();
+    }
+
+    @Test
+    void 포인트_저장도_저널에_먼저_남긴_뒤_저장소에_반영한다() {
+        // given
+        when(userPointStore.insertOrUpdate(userId, 100L)).thenReturn(new UserPoint(userId, 100L, 10L));
+
+        // when
+        pointRepository.savePoint(userId, 100L);
+
+        // then
+        InOrder inOrder = inOrder(pointJournal, userPointStore);
+        inOrder.verify(pointJournal).appendPoint(any());
+        inOrder.verify(userPointStore).insertOrUpdate(userId, 100L);
+        inOrder.verify(pointJournal).releaseRecoveredPoint(userId);
+        assertThat(userPointCache.get(userId)).isEqualTo(new UserPoint(userId, 100L, 10L));
+    }
+}
@@ -1,6 +1,8 @@
 package io.hhplus.tdd.point;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -11,10 +13,34 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.cache.EvictionPolicy;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointSummary;
 import io.hhplus.tdd.point.dto.TransactionType;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.CasPointEngine;
+import io.hhplus.tdd.point.engine.GroupCommitPointEngine;
+import io.hhplus.tdd.point.engine.LockPointEngine;
+import io.hhplus.tdd.point.engine.PointEngine;
+import io.hhplus.tdd.point.engine.ShardEngineProperties;
+import io.hhplus.tdd.point.engine.ShardedPointEngine;
+import io.hhplus.tdd.point.history.Backpressure;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.journal.NoopPointJournal;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.lock.UserLockProperties;
+import io.hhplus.tdd.point.metrics.PointMetrics;
 import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.store.OffHeapUserPointStore;
+import io.hhplus.tdd.point.store.UserPointStoreProperties;
+import io.hhplus.tdd.point.summary.UserPointVersions;
 import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -22,23 +48,35 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class PointServiceConcurrencyTest {
 
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
     private PointService pointService;
     private PointRepository pointRepository;
     private PointValidator pointValidator;
     private final long userId = 1L;
 
+    private PointRepository memoryRepository;
+    private PointHistoryWriter memoryHistoryWriter;
+    private PointEngine memoryEngine;
+
     @BeforeEach
     void setUp() {
         pointRepository = mock(PointRepository.class);
         pointValidator = mock(PointValidator.class);
-        pointService = new PointService(pointRepository, pointValidator);
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(16, false, 0L), pointMetrics);
+        pointService = new PointService(pointRepository, pointValidator,
+            new LockPointEngine(pointRepository, pointValidator, userLockManager));
     }
 
     @Test
@@ -48,7 +86,8 @@ class PointServiceConcurrencyTest {
         int threadCount = 10; // 동시에 요청할 스레드 갯수
 
         doNothing().when(pointValidator).validatePointAmountBelowZero(anyLong());
-        when(pointRepository.savePoint(userId, amount))
+        when(pointRepository.findUserPointById(userId)).thenReturn(UserPoint.empty(userId));
+        when(pointRepository.saveReservedPointChange(userId, amount, amount, TransactionType.CHARGE))
             .thenAnswer(invocation -> {
                 long id = invocation.getArgument(0);
                 long point = invocation.getArgument(1);
@@ -79,8 +118,8 @@ class PointServiceConcurrencyTest {
         // then
         assertEquals(10, successCount.get());
         assertEquals(0, failCount.get());
-        verify(pointRepository, times(threadCount)).savePoint(eq(userId), anyLong());
-        verify(pointRepository, times(threadCount)).savePointHistory(eq(userId), eq(amount), eq(TransactionType.CHARGE));
+        verify(pointRepository, times(threadCount))
+            .saveReservedPointChange(eq(userId), anyLong(), eq(amount), eq(TransactionType.CHARGE));
     }
 
     @Test
@@ -104,7 +143,7 @@ class PointServiceConcurrencyTest {
             return null;
         }).when(pointValidator).validateTotalPointAmount(anyLong(), anyLong());
 
-        when(pointRepository.savePoint(anyLong(), anyLong()))
+        when(pointRepository.saveReservedPointChange(anyLong(), anyLong(), anyLong(), any()))
             .thenAnswer(invocation -> {
                 long id = invocation.getArgument(0);
                 long updatedPoint = invocation.getArgument(1);
@@ -135,8 +174,165 @@ class PointServiceConcurrencyTest {
         // then
         assertEquals(10, successCount.get());
         assertEquals(0, failCount.get());
-        verify(pointRepository, times(threadCount)).savePoint(eq(userId), anyLong());
-        verify(pointRepository, times(threadCount)).savePointHistory(eq(userId), eq(useAmount), eq(TransactionType.USE));
+        verify(pointRepository, times(threadCount))
+            .saveReservedPointChange(eq(userId), anyLong(), eq(useAmount), eq(TransactionType.USE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"lock", "cas", "shard", "group-commit"})
+    void 송금_동시_요청이_서로_교차해도_교착_상태_없이_전체_포인트가_보존된다(String mode) throws InterruptedException {
+        // given
+        int userCount = 4;
+        long initialPoint = 1_000L;
+        PointService service = memoryPointService(mode);
+        for (long id = 1; id <= userCount; id++) {
+            memoryRepository.savePoint(id, initialPoint);
+        }
+
+        int threadCount = 8;
+        int repeat = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < repeat; j++) {
+                    long from = ThreadLocalRandom.current().nextLong(1, userCount + 1);
+                    long to = from % userCount + 1;
+                    try {
+                        service.transfer(from, to, ThreadLocalRandom.current().nextLong(1, 100));
+                        successCount.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // 잔액 부족
+                    }
+                }
+                latch.countDown();
+            });
+        }
+
+        // then
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        long total = 0;
+        for (long id = 1; id <= userCount; id++) {
+            total += service.getUserPoint(id).point();
+        }
+        assertEquals(initialPoint * userCount, total);
+        long historyCount = 0;
+        for (long id = 1; id <= userCount; id++) {
+            historyCount += service.getHistory(id).size();
+        }
+        assertEquals(successCount.get() * 2L, historyCount);
+        closeMemoryPointService();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"lock", "cas", "shard", "group-commit"})
+    void 잔액보다_많이_송금하면_실패하고_양쪽_포인트가_바뀌지_않는다(String mode) {
+        // given
+        PointService service = memoryPointService(mode);
+        memoryRepository.savePoint(1L, 100L);
+        memoryRepository.savePoint(2L, 100L);
+        service.chargePoint(1L, 10L);
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> service.transfer(1L, 2L, 1_000L));
+        service.transfer(1L, 2L, 30L);
+
+        // then
+        assertEquals(80L, service.getUserPoint(1L).point());
+        assertEquals(130L, service.getUserPoint(2L).point());
+        assertEquals(2, service.getHistory(1L).size());
+        assertEquals(1, service.getHistory(2L).size());
+        closeMemoryPointService();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"lock", "cas", "shard", "group-commit"})
+    void 충전_사용_도중에_조회한_요약도_포인트와_히스토리_합이_항상_같다(String mode) throws InterruptedException {
+        // given
+        PointService service = memoryPointService(mode);
+        int writerCount = 4;
+        int repeat = 1_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(writerCount + 1);
+        CountDownLatch writers = new CountDownLatch(writerCount);
+        AtomicInteger broken = new AtomicInteger(0);
+        AtomicInteger reads = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < writerCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < repeat; j++) {
+                    try {
+                        if (ThreadLocalRandom.current().nextBoolean()) {
+                            service.chargePoint(userId, ThreadLocalRandom.current().nextLong(1, 100));
+                        } else {
+                            service.usePoint(userId, ThreadLocalRandom.current().nextLong(1, 100));
+                        }
+                    } catch (RuntimeException e) {
+                        // 잔액 부족
+                    }
+                }
+                writers.countDown();
+            });
+        }
+        executorService.execute(() -> {
+            while (writers.getCount() > 0) {
+                PointSummary summary = service.getSummary(userId);
+                long sum = 0;
+                for (PointHistory history : summary.histories()) {
+                    sum += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+                }
+                long lastId = summary.histories().isEmpty() ? 0L : summary.histories().get(summary.histories().size() - 1).id();
+                if (sum != summary.point() || lastId != summary.version()) {
+                    broken.incrementAndGet();
+                }
+                reads.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(writers.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(reads.get()).isPositive();
+        assertEquals(0, broken.get());
+        assertEquals(service.getUserPoint(userId).point(), service.getSummary(userId).point());
+        PointAggregate aggregate = service.getAggregate(userId);
+        assertEquals(service.getUserPoint(userId).point(), aggregate.totalCharged() - aggregate.totalUsed());
+        assertEquals(service.getHistory(userId).size(), aggregate.count());
+        closeMemoryPointService();
+    }
+
+    // 목 대신 메모리 저장소로 구성한 PointService (저장소, 히스토리 writer, 엔진은 필드에 보관)
+    private PointService memoryPointService(String mode) {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        UserPointVersions userPointVersions = new UserPointVersions(pointHistoryIndex);
+        memoryHistoryWriter = new PointHistoryWriter(new PointHistoryTable(), pointHistoryIndex, userPointVersions,
+            new PointHistoryWriterProperties(100_000, 100, Backpressure.BLOCK, 10L));
+        memoryRepository = new PointRepository(
+            new OffHeapUserPointStore(new UserPointStoreProperties("off-heap", 16)), pointHistoryIndex,
+            memoryHistoryWriter, userPointVersions,
+            new UserPointCache(new UserPointCacheProperties(100, EvictionPolicy.LRU), pointMetrics), new NoopPointJournal(), pointMetrics);
+        PointValidator validator = new PointValidator(pointMetrics);
+        memoryEngine = switch (mode) {
+            case "lock" -> new LockPointEngine(memoryRepository, validator,
+                new UserLockManager(new UserLockProperties(16, false, 0L), pointMetrics));
+            case "cas" -> new CasPointEngine(memoryRepository, validator);
+            case "shard" -> new ShardedPointEngine(memoryRepository, validator, new ShardEngineProperties(4, 1_000, 64),
+                pointMetrics);
+            case "group-commit" -> new GroupCommitPointEngine(memoryRepository, validator, pointMetrics);
+            default -> throw new IllegalArgumentException(mode);
+        };
+        return new PointService(memoryRepository, validator, memoryEngine);
+    }
+
+    private void closeMemoryPointService() {
+        if (memoryEngine instanceof ShardedPointEngine shardedPointEngine) {
+            shardedPointEngine.close();
+        }
+        memoryHistoryWriter.close();
+    }
 }
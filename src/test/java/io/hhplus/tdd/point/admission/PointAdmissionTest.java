@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.point.metrics.AdmissionRejection;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PointAdmissionTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PointAdmission pointAdmission(long ratePerSecond, long burst, int userMaxPending, int maxConcurrent) {
+        return new PointAdmission(new AdmissionProperties(true, ratePerSecond, burst, userMaxPending, maxConcurrent),
+            new PointMetrics(meterRegistry));
+    }
+
+    private double rejections(AdmissionRejection rejection) {
+        return meterRegistry.get("point.admission.rejections").tag("reason", rejection.reason()).counter().count();
+    }
+
+    @Test
+    void 토큰을_burst_만큼_쓰면_거절하고_시간이_지나_채워지면_다시_받는다() throws InterruptedException {
+        // given
+        PointAdmission admission = pointAdmission(100L, 3L, 100, 100);
+        for (int i = 0; i < 3; i++) {
+            admission.acquire(1L).release();
+        }
+
+        // when
+        AdmissionRejectedException exception = assertThrows(AdmissionRejectedException.class, () -> admission.acquire(1L));
+        PointAdmission.Permit other = admission.acquire(2L);
+        Thread.sleep(30);
+        PointAdmission.Permit refilled = admission.acquire(1L);
+
+        // then
+        assertThat(exception.rejection()).isEqualTo(AdmissionRejection.USER_RATE);
+        assertThat(rejections(AdmissionRejection.USER_RATE)).isEqualTo(1.0);
+        assertThat(other).isNotNull();
+        assertThat(refilled).isNotNull();
+    }
+
+    @Test
+    void 유저의_처리_중인_요청이_제한에_닿으면_거절하고_반납하면_다시_받는다() {
+        // given
+        PointAdmission admission = pointAdmission(1_000_000L, 1_000L, 2, 100);
+        PointAdmission.Permit first = admission.acquire(1L);
+        admission.acquire(1L);
+
+        // when
+        AdmissionRejectedException exception = assertThrows(AdmissionRejectedException.class, () -> admission.acquire(1L));
+        first.release();
+
+        // then
+        assertThat(exception.rejection()).isEqualTo(AdmissionRejection.USER_PENDING);
+        assertThat(admission.acquire(1L)).isNotNull();
+        assertThat(admission.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void 전체_처리_중인_요청이_제한에_닿으면_어느_유저든_거절한다() {
+        // given
+        PointAdmission admission = pointAdmission(1_000_000L, 1_000L, 100, 2);
+        admission.acquire(1L);
+        PointAdmission.Permit second = admission.acquire(2L);
+
+        // when
+        AdmissionRejectedException exception = assertThrows(AdmissionRejectedException.class, () -> admission.acquire(3L));
+        second.release();
+
+        // then
+        assertThat(exception.rejection()).isEqualTo(AdmissionRejection.CONCURRENCY);
+        assertThat(rejections(AdmissionRejection.CONCURRENCY)).isEqualTo(1.0);
+        assertThat(admission.acquire(3L)).isNotNull();
+    }
+
+    @Test
+    void 처리_중인_요청이_없고_토큰이_가득_찬_유저의_상태는_지운다() throws InterruptedException {
+        // given
+        PointAdmission admission = pointAdmission(1_000_000L, 1_000L, 100, 10_000);
+        List<PointAdmission.Permit> permits = new ArrayList<>();
+        for (long userId = 1; userId <= 100; userId++) {
+            permits.add(admission.acquire(userId));
+        }
+        Thread.sleep(5);
+
+        // when
+        permits.forEach(PointAdmission.Permit::release);
+
+        // then
+        assertThat(admission.trackedUsers()).isZero();
+        assertThat(admission.inFlight()).isZero();
+    }
+
+    @Test
+    void 동시에_요청해도_유저별_처리_중인_요청_수는_제한을_넘지_않는다() throws InterruptedException {
+        // given
+        int userMaxPending = 4;
+        PointAdmission admission = pointAdmission(1_000_000_000L, 1_000_000_000L, userMaxPending, 10_000);
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger holding = new AtomicInteger();
+        AtomicInteger maxHolding = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    try {
+                        PointAdmission.Permit permit = admission.acquire(1L);
+                        maxHolding.accumulateAndGet(holding.incrementAndGet(), Math::max);
+                        holding.decrementAndGet();
+                        permit.release();
+                    } catch (AdmissionRejectedException e) {
+                        // 제한에 닿은 경우
+                    }
+                }
+                latch.countDown();
+            });
+        }
+
+        // then
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        assertThat(maxHolding.get()).isLessThanOrEqualTo(userMaxPending);
+        assertThat(admission.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class UserPointCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserPointCache cache(int maxSize, EvictionPolicy evictionPolicy) {
+        return new UserPointCache(new UserPointCacheProperties(maxSize, evictionPolicy), new PointMetrics(meterRegistry));
+    }
+
+    @Test
+    void LRU_정책이면_가장_오래_전에_사용된_항목을_제거한다() {
+        // given
+        UserPointCache cache = cache(2, EvictionPolicy.LRU);
+        cache.put(new UserPoint(1L, 100L, 1L));
+        cache.put(new UserPoint(2L, 200L, 1L));
+        cache.get(1L);
+
+        // when
+        cache.put(new UserPoint(3L, 300L, 1L));
+
+        // then
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1L);
+    }
+
+    @Test
+    void LFU_정책이면_가장_적게_사용된_항목을_제거한다() {
+        // given
+        UserPointCache cache = cache(2, EvictionPolicy.LFU);
+        cache.put(new UserPoint(1L, 100L, 1L));
+        cache.put(new UserPoint(2L, 200L, 1L));
+        cache.get(2L);
+        cache.get(2L);
+        cache.get(1L);
+
+        // when
+        cache.put(new UserPoint(3L, 300L, 1L));
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+
+    @Test
+    void 조회_도중_쓰기가_있었으면_테이블에서_읽은_값으로_덮어쓰지_않는다() {
+        // given
+        UserPointCache cache = cache(10, EvictionPolicy.LRU);
+        long stamp = cache.stamp(1L);
+        UserPoint stale = new UserPoint(1L, 100L, 1L);
+        cache.put(new UserPoint(1L, 50L, 2L));
+        cache.invalidate(1L);
+        cache.put(new UserPoint(1L, 50L, 2L));
+
+        // when
+        cache.fill(stale, stamp);
+
+        // then
+        assertThat(cache.get(1L).point()).isEqualTo(50L);
+    }
+
+    @Test
+    void 적중과_미스_횟수를_집계한다() {
+        // given
+        UserPointCache cache = cache(10, EvictionPolicy.LRU);
+        cache.fill(new UserPoint(1L, 100L, 1L), cache.stamp(1L));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        CacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(2L);
+        assertThat(stats.misses()).isEqualTo(1L);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_유저의_쓰기는_테이블에서_읽은_값을_채우는_것을_막지_않는다() {
+        // given
+        UserPointCache cache = cache(UserPointCache.MAX_STRIPES * UserPointCache.MIN_STRIPE_SIZE, EvictionPolicy.LRU);
+        long stamp = cache.stamp(1L);
+        cache.put(new UserPoint(2L, 50L, 2L));
+
+        // when
+        cache.fill(new UserPoint(1L, 100L, 1L), stamp);
+
+        // then
+        assertThat(cache.get(1L).point()).isEqualTo(100L);
+    }
+
+    @Test
+    void 적중과_미스_횟수와_항목_수를_지표로_내보낸다() {
+        // given
+        UserPointCache cache = cache(10, EvictionPolicy.LRU);
+        cache.put(new UserPoint(1L, 100L, 1L));
+
+        // when
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        assertThat(meterRegistry.get("point.cache.hits").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.cache.misses").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.cache.entries").gauge().value()).isEqualTo(1.0);
+    }
+}
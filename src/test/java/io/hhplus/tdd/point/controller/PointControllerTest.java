@@ -1,11 +1,14 @@
 package io.hhplus.tdd.point.controller;
 
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.TransactionType;
 import io.hhplus.tdd.point.dto.UserPoint;
-import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.metrics.AdmissionRejection;
+import io.hhplus.tdd.point.service.AsyncPointService;
 import io.hhplus.tdd.point.validate.PointValidator;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -14,7 +17,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import io.hhplus.tdd.point.admission.AdmissionRejectedException;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.event.PointEventHub;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.PointSummary;
+import java.util.List;
+import java.util.function.Predicate;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -26,7 +43,8 @@ class PointControllerTest {
     @Autowired private MockMvc mockMvc;
 
     @Mock private PointValidator pointValidator;
-    @MockBean private PointService pointService;
+    @MockBean private AsyncPointService asyncPointService;
+    @MockBean private PointEventHub pointEventHub;
 
     private UserPoint userPoint;
     private PointHistory pointHistory;
@@ -40,10 +58,15 @@ class PointControllerTest {
     @Test
     void 포인트_조회시_성공() throws Exception {
         // given
-        given(pointService.getUserPoint(1L)).willReturn(userPoint);
+        given(asyncPointService.getUserPoint(1L)).willReturn(CompletableFuture.completedFuture(userPoint));
 
-        // when, then
-        mockMvc.perform(get("/api/v1/point/{id}", 1L))
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/point/{id}", 1L))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1L))
             .andExpect(jsonPath("$.point").value(100L));
@@ -52,27 +75,38 @@ class PointControllerTest {
     @Test
     void 포인트_히스토리_조회시_성공() throws Exception {
         // given
-        given(pointService.getHistory(1L)).willReturn(Arrays.asList(pointHistory));
+        given(asyncPointService.getHistory(1L)).willReturn(CompletableFuture.completedFuture(Arrays.asList(pointHistory)));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/point/1/histories"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
 
-        // when, then
-        mockMvc.perform(get("/api/v1/point/1/histories"))
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$[0].id").value(1L))
             .andExpect(jsonPath("$[0].amount").value(1000L))
             .andExpect(jsonPath("$[0].type").value("CHARGE"));
 
-        verify(pointService, times(1)).getHistory(1L);
+        verify(asyncPointService, times(1)).getHistory(1L);
     }
 
     @Test
     void 포인트_충전시_성공() throws Exception {
         // given
-        given(pointService.chargePoint(1L, 500L)).willReturn(new UserPoint(1L, 1500L, System.currentTimeMillis()));
+        given(asyncPointService.chargePoint(1L, 500L))
+            .willReturn(CompletableFuture.completedFuture(new UserPoint(1L, 1500L, System.currentTimeMillis())));
 
-        // when, then
-        mockMvc.perform(patch("/api/v1/point/1/charge")
+        // when
+        MvcResult mvcResult = mockMvc.perform(patch("/api/v1/point/1/charge")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content("{\"amount\": 500}"))
+                .content("500"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1L))
             .andExpect(jsonPath("$.point").value(1500L));
@@ -80,14 +114,214 @@ class PointControllerTest {
 
     @Test
     void 포인트_사용시_성공() throws Exception {
-        // Mocking 서비스 레이어
-        given(pointService.usePoint(1L, 300L)).willReturn(new UserPoint(1L, 700L, System.currentTimeMillis()));
+        // given
+        given(asyncPointService.usePoint(1L, 300L))
+            .willReturn(CompletableFuture.completedFuture(new UserPoint(1L, 700L, System.currentTimeMillis())));
 
-        mockMvc.perform(patch("/api/v1/point/1/use")
+        // when
+        MvcResult mvcResult = mockMvc.perform(patch("/api/v1/point/1/use")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content("{\"amount\": 300}"))
+                .content("300"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1L))
             .andExpect(jsonPath("$.point").value(700L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 포인트_히스토리_페이지_조회시_조건과_다음_cursor_를_전달한다() throws Exception {
+        // given
+        PointHistoryQuery query = new PointHistoryQuery(10L, 100L, 200L, TransactionType.CHARGE);
+        given(asyncPointService.getHistory(1L, query, 1))
+            .willReturn(CompletableFuture.completedFuture(new PointHistoryPage(List.of(pointHistory), 1L)));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/point/1/histories/page")
+                .param("cursor", "10")
+                .param("size", "1")
+                .param("from", "100")
+                .param("to", "200")
+                .param("type", "CHARGE"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.histories[0].id").value(1L))
+            .andExpect(jsonPath("$.nextCursor").value(1L));
+    }
+
+    @Test
+    void 포인트_히스토리_스트림_조회시_한_줄에_하나씩_NDJSON_으로_내보낸다() throws Exception {
+        // given
+        PointHistory nextHistory = new PointHistory(2L, 1L, 500L, TransactionType.USE, 1L);
+        doAnswer(invocation -> {
+            Predicate<PointHistory> visitor = invocation.getArgument(2);
+            visitor.test(pointHistory);
+            visitor.test(nextHistory);
+            return CompletableFuture.completedFuture(null);
+        }).when(asyncPointService).streamHistory(eq(1L), eq(PointHistoryQuery.all()), any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/point/1/histories/stream"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"id\":1").contains("\"type\":\"CHARGE\"");
+        assertThat(lines[1]).startsWith("{").contains("\"id\":2").contains("\"type\":\"USE\"");
+    }
+
+    @Test
+    void 포인트_일괄_처리시_건별_결과를_요청_순서대로_반환한다() throws Exception {
+        // given
+        List<PointOperation> operations = List.of(
+            new PointOperation(1L, 100L, TransactionType.CHARGE),
+            new PointOperation(2L, 50L, TransactionType.USE));
+        given(asyncPointService.applyBatch(operations)).willReturn(CompletableFuture.completedFuture(List.of(
+            PointOperationResult.success(operations.get(0), new UserPoint(1L, 100L, 0L)),
+            PointOperationResult.failure(operations.get(1), new IllegalArgumentException("포인트 부족")))));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/point/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"userId\":1,\"amount\":100,\"type\":\"CHARGE\"},{\"userId\":2,\"amount\":50,\"type\":\"USE\"}]"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].success").value(true))
+            .andExpect(jsonPath("$[0].point").value(100L))
+            .andExpect(jsonPath("$[1].success").value(false))
+            .andExpect(jsonPath("$[1].message").value("포인트 부족"));
+    }
+
+    @Test
+    void 포인트_송금시_양쪽_유저의_포인트를_반환한다() throws Exception {
+        // given
+        given(asyncPointService.transfer(1L, 2L, 30L)).willReturn(CompletableFuture.completedFuture(
+            new PointTransfer(new UserPoint(1L, 70L, 0L), new UserPoint(2L, 30L, 0L))));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(patch("/api/v1/point/1/transfer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"toUserId\":2,\"amount\":30}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.from.point").value(70L))
+            .andExpect(jsonPath("$.to.id").value(2L))
+            .andExpect(jsonPath("$.to.point").value(30L));
+    }
+
+    @Test
+    void 포인트_충전시_Idempotency_Key_헤더를_전달한다() throws Exception {
+        // given
+        given(asyncPointService.chargePoint(1L, 500L, "charge-1"))
+            .willReturn(CompletableFuture.completedFuture(new UserPoint(1L, 1500L, System.currentTimeMillis())));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(patch("/api/v1/point/1/charge")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "charge-1")
+                .content("500"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.point").value(1500L));
+        verify(asyncPointService, never()).chargePoint(1L, 500L);
+    }
+
+    @Test
+    void 포인트_요약_조회시_같은_버전의_포인트와_히스토리를_반환한다() throws Exception {
+        // given
+        given(asyncPointService.getSummary(1L)).willReturn(CompletableFuture.completedFuture(
+            new PointSummary(1L, 1000L, 1L, pointHistory.updateMillis(), List.of(pointHistory))));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/point/1/summary"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.point").value(1000L))
+            .andExpect(jsonPath("$.version").value(1L))
+            .andExpect(jsonPath("$.histories[0].amount").value(1000L));
+    }
+
+    @Test
+    void 포인트_집계_조회시_누적_충전_사용_합과_건수를_반환한다() throws Exception {
+        // given
+        given(asyncPointService.getAggregate(1L)).willReturn(CompletableFuture.completedFuture(
+            new PointAggregate(1L, 1500L, 500L, 3L, 3L)));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/point/1/aggregate"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalCharged").value(1500L))
+            .andExpect(jsonPath("$.totalUsed").value(500L))
+            .andExpect(jsonPath("$.count").value(3L));
+    }
+
+    @Test
+    void 요청_수_제한으로_거절되면_429_와_Retry_After_를_반환한다() throws Exception {
+        // given
+        given(asyncPointService.usePoint(1L, 100L)).willReturn(
+            CompletableFuture.failedFuture(new AdmissionRejectedException(1L, AdmissionRejection.USER_RATE)));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(patch("/api/v1/point/1/use")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("100"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "1"))
+            .andExpect(jsonPath("$.code").value("429"));
+    }
+
+    @Test
+    void 히스토리_스트림도_요청_수_제한으로_거절되면_429_를_반환한다() throws Exception {
+        // given
+        given(asyncPointService.streamHistory(eq(1L), eq(PointHistoryQuery.all()), any())).willReturn(
+            CompletableFuture.failedFuture(new AdmissionRejectedException(1L, AdmissionRejection.USER_PENDING)));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/point/1/histories/stream"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "1"));
+    }
+}
@@ -0,0 +1,202 @@
+package io.hhplus.tdd.point.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+class CasPointEngineTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    private PointRepository pointRepository;
+    private CasPointEngine casPointEngine;
+    private final AtomicLong storedPoint = new AtomicLong(500L);
+    private final List<Long> saved = Collections.synchronizedList(new ArrayList<>());
+    private final long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = mock(PointRepository.class);
+        casPointEngine = new CasPointEngine(pointRepository, new PointValidator(pointMetrics));
+
+        // 비워진 cell 은 테이블에서 다시 읽으므로 저장한 값을 돌려줌
+        when(pointRepository.findUserPointById(userId))
+            .thenAnswer(invocation -> new UserPoint(userId, storedPoint.get(), 0L));
+        when(pointRepository.saveReservedPointChanges(eq(userId), anyList())).thenAnswer(this::store);
+    }
+
+    // 마지막 포인트를 저장하고, 변경을 부호 있는 금액으로 순서대로 남김
+    private UserPoint store(InvocationOnMock invocation) {
+        List<PointChange> changes = invocation.getArgument(1);
+        for (PointChange change : changes) {
+            saved.add(change.type() == TransactionType.USE ? -change.amount() : change.amount());
+        }
+        long point = changes.get(changes.size() - 1).point();
+        storedPoint.set(point);
+        return new UserPoint(userId, point, System.currentTimeMillis());
+    }
+
+    @Test
+    void 포인트_사용_동시_요청시_잔액을_넘는_요청만_실패한다() throws InterruptedException {
+        // given
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    casPointEngine.use(userId, 10L);
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(failCount.get()).isEqualTo(50);
+        assertThat(storedPoint.get()).isZero();
+        assertThat(saved).hasSize(50).containsOnly(-10L);
+        verify(pointRepository, times(50)).cancelPointHistoryReservation();
+    }
+
+    @Test
+    void 충전은_기존_잔액에_더해진다() {
+        // when
+        UserPoint userPoint = casPointEngine.charge(userId, 100L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(600L);
+        assertThat(storedPoint.get()).isEqualTo(600L);
+        assertThat(saved).containsExactly(100L);
+    }
+
+    @Test
+    void 저장되지_않은_변경은_CAS_순서대로_모아_한_번에_저장한다() throws InterruptedException {
+        // given
+        int threadCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        List<Long> points = Collections.synchronizedList(new ArrayList<>());
+        List<Long> changePoints = Collections.synchronizedList(new ArrayList<>());
+        // 저장 한 번은 0 을 구분자로 변경 앞에 끼워 넣음
+        doAnswer(invocation -> {
+            List<PointChange> changes = invocation.getArgument(1);
+            saved.add(0L);
+            changes.forEach(change -> changePoints.add(change.point()));
+            UserPoint userPoint = store(invocation);
+            points.add(userPoint.point());
+            return userPoint;
+        }).when(pointRepository).saveReservedPointChanges(eq(userId), anyList());
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long amount = i + 1;
+            boolean charge = i % 2 == 0;
+            executorService.execute(() -> {
+                try {
+                    if (charge) {
+                        casPointEngine.charge(userId, amount);
+                    } else {
+                        casPointEngine.use(userId, amount);
+                    }
+                } catch (IllegalArgumentException ignored) {
+                    // 잔액이 부족한 사용은 실패
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then (변경을 순서대로 더하면 변경마다 함께 넘긴 포인트와 각 저장의 마지막 포인트가 되고, 중간에 음수가 되지 않음)
+        long balance = 500L;
+        int saveIndex = 0;
+        int changeIndex = 0;
+        List<Long> events = new ArrayList<>(saved);
+        for (int i = 0; i < events.size(); i++) {
+            long event = events.get(i);
+            if (event == 0L) {
+                if (saveIndex > 0) {
+                    assertThat(balance).isEqualTo(points.get(saveIndex - 1));
+                }
+                saveIndex++;
+                continue;
+            }
+            balance += event;
+            assertThat(balance).isNotNegative();
+            assertThat(balance).isEqualTo(changePoints.get(changeIndex++));
+        }
+        assertThat(balance).isEqualTo(storedPoint.get());
+        assertThat(saveIndex).isEqualTo(points.size());
+        assertThat(events.get(0)).isZero();
+    }
+
+    @Test
+    void 저장이_끝나고_더_들어온_변경이_없으면_cell_을_비우고_다음_요청은_테이블에서_다시_읽는다() {
+        // when
+        casPointEngine.charge(userId, 100L);
+        storedPoint.set(1_000L);
+        UserPoint userPoint = casPointEngine.charge(userId, 100L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(1_100L);
+        verify(pointRepository, times(2)).findUserPointById(userId);
+    }
+
+    @Test
+    void 저장에_실패하면_cell_을_버리고_다음_요청은_테이블의_값에서_다시_시작한다() {
+        // given
+        doThrow(new IllegalStateException("저장 실패"))
+            .doAnswer(this::store)
+            .when(pointRepository).saveReservedPointChanges(eq(userId), anyList());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> casPointEngine.charge(userId, 100L));
+        UserPoint userPoint = casPointEngine.charge(userId, 10L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(510L);
+        // 확보한 자리는 저장소가 반납하므로 엔진은 반납하지 않음
+        verify(pointRepository, never()).cancelPointHistoryReservation();
+        assertThat(saved).containsExactly(10L);
+    }
+}
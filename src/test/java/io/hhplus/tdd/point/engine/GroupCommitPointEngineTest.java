@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+class GroupCommitPointEngineTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    private PointRepository pointRepository;
+    private GroupCommitPointEngine groupCommitPointEngine;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger saveCount = new AtomicInteger(0);
+    private final List<PointChange> saved = Collections.synchronizedList(new ArrayList<>());
+    private final long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = mock(PointRepository.class);
+        groupCommitPointEngine = new GroupCommitPointEngine(pointRepository, new PointValidator(pointMetrics),
+            pointMetrics);
+
+        when(pointRepository.findUserPointById(userId)).thenReturn(UserPoint.empty(userId));
+        // 첫 번째 저장을 붙잡아서 그 사이 들어온 요청들이 다음 저장으로 모이게 함
+        when(pointRepository.saveReservedPointChanges(eq(userId), anyList())).thenAnswer(invocation -> {
+            if (saveCount.incrementAndGet() == 1) {
+                release.await();
+            }
+            return store(invocation);
+        });
+    }
+
+    // 변경을 순서대로 남기고 마지막 포인트를 저장한 것으로 반환
+    private UserPoint store(InvocationOnMock invocation) {
+        List<PointChange> changes = invocation.getArgument(1);
+        saved.addAll(changes);
+        return new UserPoint(userId, changes.get(changes.size() - 1).point(), System.currentTimeMillis());
+    }
+
+    @Test
+    void 저장_중에_들어온_요청은_다음_저장에_함께_반영되고_각자의_결과를_받는다() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        Future<UserPoint> first = executorService.submit(() -> groupCommitPointEngine.charge(userId, 100L));
+        Thread.sleep(100);
+
+        // when
+        List<Future<UserPoint>> charges = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            charges.add(executorService.submit(() -> groupCommitPointEngine.charge(userId, 10L)));
+        }
+        Future<UserPoint> rejected = executorService.submit(() -> groupCommitPointEngine.use(userId, 1000L));
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        assertThat(first.get().point()).isEqualTo(100L);
+        List<Long> points = new ArrayList<>();
+        for (Future<UserPoint> charge : charges) {
+            points.add(charge.get().point());
+        }
+        assertThat(points).containsExactlyInAnyOrder(110L, 120L, 130L, 140L, 150L);
+        Exception exception = assertThrows(Exception.class, rejected::get);
+        assertThat(exception.getCause()).isInstanceOf(IllegalArgumentException.class);
+
+        verify(pointRepository, times(2)).saveReservedPointChanges(eq(userId), anyList());
+        assertThat(saved).hasSize(6).extracting(PointChange::type).containsOnly(TransactionType.CHARGE);
+        assertThat(saved).extracting(PointChange::point).containsExactly(100L, 110L, 120L, 130L, 140L, 150L);
+        assertThat(groupCommitPointEngine.stats()).isEqualTo(new GroupCommitStats(2L, 6L));
+        assertThat(meterRegistry.get("point.engine.group_commit.writes").functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("point.engine.group_commit.requests").functionCounter().count()).isEqualTo(6.0);
+        executorService.shutdown();
+    }
+
+    @Test
+    void 저장에_실패하면_다음_저장은_테이블의_포인트에서_다시_시작한다() {
+        // given
+        release.countDown();
+        doThrow(new IllegalStateException("저장 실패"))
+            .doAnswer(this::store)
+            .when(pointRepository).saveReservedPointChanges(eq(userId), anyList());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> groupCommitPointEngine.charge(userId, 100L));
+        UserPoint userPoint = groupCommitPointEngine.charge(userId, 10L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(10L);
+        // 확보한 자리는 저장소가 반납하므로 엔진은 반납하지 않음
+        verify(pointRepository, never()).cancelPointHistoryReservation();
+        assertThat(saved).containsExactly(new PointChange(10L, TransactionType.CHARGE, 10L));
+    }
+
+    @Test
+    void 쌓인_요청_없이_저장이_끝나면_group_을_비우고_다음_요청은_테이블에서_다시_읽는다() {
+        // given
+        release.countDown();
+        groupCommitPointEngine.charge(userId, 100L);
+        when(pointRepository.findUserPointById(userId)).thenReturn(new UserPoint(userId, 1_000L, 0L));
+
+        // when
+        UserPoint userPoint = groupCommitPointEngine.charge(userId, 10L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(1_010L);
+    }
+}
@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+class ShardedPointEngineTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    private PointRepository pointRepository;
+    private ShardedPointEngine shardedPointEngine;
+    private final AtomicLong storedPoint = new AtomicLong();
+    private final List<PointChange> saved = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private final long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = mock(PointRepository.class);
+        // 처음 조회를 잠시 붙잡아서 그 사이 들어온 요청들이 한 배치로 처리되게 함
+        when(pointRepository.findUserPointById(userId)).thenAnswer(invocation -> {
+            loaded.await();
+            return new UserPoint(userId, 500L, 0L);
+        });
+        when(pointRepository.saveReservedPointChanges(eq(userId), anyList())).thenAnswer(this::store);
+        shardedPointEngine = new ShardedPointEngine(pointRepository, new PointValidator(pointMetrics),
+            new ShardEngineProperties(4, 1000, 256), pointMetrics);
+    }
+
+    // 변경을 순서대로 남기고 마지막 포인트를 저장
+    private UserPoint store(InvocationOnMock invocation) {
+        List<PointChange> changes = invocation.getArgument(1);
+        saved.addAll(changes);
+        long point = changes.get(changes.size() - 1).point();
+        storedPoint.set(point);
+        return new UserPoint(userId, point, System.currentTimeMillis());
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardedPointEngine.close();
+    }
+
+    @Test
+    void 같은_배치의_요청은_한_번에_저장하고_잔액을_넘는_요청만_실패한다() throws InterruptedException {
+        // given
+        int threadCount = 60;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    shardedPointEngine.use(userId, 10L);
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        Thread.sleep(200);
+        loaded.countDown();
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(failCount.get()).isEqualTo(10);
+        assertThat(storedPoint.get()).isZero();
+        assertThat(saved).hasSize(50).extracting(PointChange::amount).containsOnly(10L);
+        assertThat(saved).extracting(PointChange::point).isSortedAccordingTo(Comparator.reverseOrder());
+        verify(pointRepository, atMost(2)).saveReservedPointChanges(eq(userId), anyList());
+        assertThat(shardedPointEngine.stats()).extracting(ShardStats::processed).contains(60L);
+        assertThat(meterRegistry.get("point.engine.shard.processed").functionCounters())
+            .extracting(FunctionCounter::count).contains(60.0);
+    }
+
+    @Test
+    void 저장에_실패하면_다음_요청은_테이블에서_다시_읽는다() {
+        // given
+        loaded.countDown();
+        doThrow(new IllegalStateException("저장 실패"))
+            .doAnswer(this::store)
+            .when(pointRepository).saveReservedPointChanges(eq(userId), anyList());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> shardedPointEngine.charge(userId, 100L));
+        UserPoint userPoint = shardedPointEngine.charge(userId, 10L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(510L);
+        // 확보한 자리는 저장소가 반납하므로 엔진은 반납하지 않음
+        verify(pointRepository, never()).cancelPointHistoryReservation();
+        assertThat(saved).containsExactly(new PointChange(10L, TransactionType.CHARGE, 510L));
+        verify(pointRepository, times(2)).findUserPointById(userId);
+    }
+
+    @Test
+    void 메일박스에_남은_요청이_없는_유저의_상태는_비우고_다음_요청은_저장소에서_다시_읽는다() {
+        // given
+        loaded.countDown();
+        assertThat(shardedPointEngine.charge(userId, 10L).point()).isEqualTo(510L);
+        // 엔진 밖에서 바뀐 포인트 (재시작 후 복구 등)
+        when(pointRepository.findUserPointById(userId)).thenReturn(new UserPoint(userId, 1_000L, 0L));
+
+        // when
+        UserPoint userPoint = shardedPointEngine.charge(userId, 10L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(1_010L);
+        assertThat(storedPoint.get()).isEqualTo(1_010L);
+    }
+}
@@ -0,0 +1,208 @@
+package io.hhplus.tdd.point.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointEvent;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class PointEventHubTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private final UserPointVersions userPointVersions = new UserPointVersions(pointHistoryIndex);
+    private final PointEventHub pointEventHub = new PointEventHub(userPointVersions,
+        new PointEventProperties(2, 2, 60_000L, 60_000L, 60_000L), new PointMetrics(meterRegistry));
+    private long historyId;
+
+    @AfterEach
+    void tearDown() {
+        pointEventHub.close();
+    }
+
+    private PointEventHub pointEventHub(int deliveryThreads, long sendTimeoutMillis) {
+        return new PointEventHub(userPointVersions,
+            new PointEventProperties(10, deliveryThreads, 60_000L, 60_000L, sendTimeoutMillis), new PointMetrics(meterRegistry));
+    }
+
+    private PointHistory write(long userId, long amount, TransactionType type) {
+        PointHistory pointHistory = new PointHistory(++historyId, userId, amount, type, historyId);
+        pointHistoryIndex.append(pointHistory);
+        userPointVersions.apply(pointHistory);
+        return pointHistory;
+    }
+
+    @Test
+    void 구독하면_현재_포인트를_먼저_받고_변경마다_새_포인트와_히스토리를_받는다() throws InterruptedException {
+        // given
+        write(1L, 100L, TransactionType.CHARGE);
+        RecordingEmitter emitter = new RecordingEmitter(3);
+        pointEventHub.subscribe(1L, emitter);
+        emitter.awaitEvents(1);
+
+        // when
+        PointHistory charge = write(1L, 50L, TransactionType.CHARGE);
+        emitter.awaitEvents(2);
+        write(2L, 1_000L, TransactionType.CHARGE);
+        PointHistory use = write(1L, 30L, TransactionType.USE);
+
+        // then
+        assertThat(emitter.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.events).extracting(PointEvent::version).containsExactly(1L, 2L, 4L);
+        assertThat(emitter.events).extracting(event -> event.userPoint().point()).containsExactly(100L, 150L, 120L);
+        assertThat(emitter.events).extracting(PointEvent::pointHistory).containsExactly(null, charge, use);
+    }
+
+    @Test
+    void 느린_구독자는_중간_변경을_건너뛰고_가장_최근_포인트를_받고_변경하는_쪽은_기다리지_않는다() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(Integer.MAX_VALUE);
+        emitter.blockSend();
+        pointEventHub.subscribe(1L, emitter);
+
+        // when (구독자가 첫 이벤트 전송에서 멈춰 있는 동안 변경)
+        for (int i = 0; i < 1_000; i++) {
+            write(1L, 10L, TransactionType.CHARGE);
+        }
+        boolean publishedWhileBlocked = emitter.release.getCount() == 1;
+        emitter.release.countDown();
+
+        // then
+        assertThat(publishedWhileBlocked).isTrue();
+        emitter.awaitVersion(1_000L);
+        assertThat(emitter.events.get(emitter.events.size() - 1).userPoint().point()).isEqualTo(10_000L);
+        assertThat(emitter.events.size()).isLessThan(1_000);
+        assertThat(emitter.events).extracting(PointEvent::version).isSorted();
+        assertThat(meterRegistry.get("point.events.coalesced").counter().count()).isPositive();
+    }
+
+    @Test
+    void 전송에_실패한_구독자는_해제하고_구독자_수가_제한을_넘으면_거절한다() throws InterruptedException {
+        // given
+        RecordingEmitter failing = new RecordingEmitter(1);
+        failing.blockSend();
+        failing.fail = true;
+        pointEventHub.subscribe(1L, new RecordingEmitter(1));
+        pointEventHub.subscribe(2L, failing);
+
+        // when (실패하는 구독자가 첫 전송에서 멈춰 있는 동안 제한을 넘겨서 구독)
+        RejectedExecutionException exception = assertThrows(RejectedExecutionException.class,
+            () -> pointEventHub.subscribe(3L, new RecordingEmitter(1)));
+        failing.release.countDown();
+        for (int i = 0; i < 100 && pointEventHub.subscriberCount() > 1; i++) {
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(exception).isNotNull();
+        assertThat(pointEventHub.subscriberCount()).isEqualTo(1);
+        assertThat(pointEventHub.subscribe(3L, new RecordingEmitter(1))).isNotNull();
+    }
+
+    @Test
+    void 보내는_데_시간을_넘긴_구독자는_끊고_다른_구독자는_계속_받는다() throws InterruptedException {
+        // given
+        PointEventHub hub = pointEventHub(1, 100L);
+        RecordingEmitter slow = new RecordingEmitter(1);
+        slow.blockSend();
+        RecordingEmitter other = new RecordingEmitter(2);
+        try {
+            hub.subscribe(1L, slow);
+            assertThat(slow.attempted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when (하나뿐인 전달 스레드가 느린 구독자에게 보내는 중에 다른 유저가 구독하고 변경)
+            hub.subscribe(2L, other);
+            write(2L, 100L, TransactionType.CHARGE);
+
+            // then
+            assertThat(other.done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.failure.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.events).isEmpty();
+            assertThat(hub.subscriberCount()).isEqualTo(1);
+        } finally {
+            slow.release.countDown();
+            hub.close();
+        }
+    }
+
+    /**
+     * 보낸 이벤트를 기록하는 emitter (필요하면 첫 전송에서 멈추거나 실패)
+     * - 멈춘 동안 interrupt 되면 전송 실패로 끝냄
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<PointEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done;
+        private final CountDownLatch attempted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch failure = new CountDownLatch(1);
+        private volatile boolean block;
+        private volatile boolean fail;
+
+        RecordingEmitter(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        void blockSend() {
+            block = true;
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            for (int i = 0; i < 500 && events.size() < count; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(events).hasSizeGreaterThanOrEqualTo(count);
+        }
+
+        void awaitVersion(long version) throws InterruptedException {
+            for (int i = 0; i < 500 && (events.isEmpty() || events.get(events.size() - 1).version() < version); i++) {
+                Thread.sleep(10);
+            }
+            assertThat(events.get(events.size() - 1).version()).isEqualTo(version);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempted.countDown();
+            if (block) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("전송 중단");
+                }
+            }
+            if (fail) {
+                throw new IOException("연결 끊김");
+            }
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof PointEvent event) {
+                    events.add(event);
+                    done.countDown();
+                }
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failure.countDown();
+            super.completeWithError(ex);
+        }
+    }
+}
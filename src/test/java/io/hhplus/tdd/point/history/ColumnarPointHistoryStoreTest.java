@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+
+class ColumnarPointHistoryStoreTest {
+
+    private final ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+
+    @Test
+    void 여러_chunk_에_걸친_히스토리를_저장한_값_그대로_순서대로_조회한다() {
+        // given
+        List<PointHistory> expected = new ArrayList<>();
+        long updateMillis = 1_700_000_000_000L;
+        for (long id = 1; id <= ColumnarPointHistoryStore.CHUNK_SIZE * 3L + 5; id++) {
+            // 시간이 조금 거꾸로 가거나 금액이 아주 큰 경우도 포함
+            updateMillis += id % 7 == 0 ? -3 : 11;
+            long amount = id % 5 == 0 ? Long.MAX_VALUE : id * 100;
+            TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            PointHistory pointHistory = new PointHistory(id * 1_000, 1L, amount, type, updateMillis);
+            expected.add(pointHistory);
+            store.append(pointHistory);
+        }
+        store.append(new PointHistory(1L, 2L, 10L, TransactionType.CHARGE, 1L));
+
+        // when
+        List<PointHistory> histories = store.findAllByUserId(1L);
+
+        // then
+        assertThat(histories).containsExactlyElementsOf(expected);
+        assertThat(store.findAllByUserId(2L)).containsExactly(new PointHistory(1L, 2L, 10L, TransactionType.CHARGE, 1L));
+        assertThat(store.findAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    void 쓰기_도중_조회해도_채워진_항목만_순서대로_보인다() throws InterruptedException {
+        // given
+        int writeCount = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicBoolean broken = new AtomicBoolean(false);
+
+        // when
+        executorService.execute(() -> {
+            for (long i = 1; i <= writeCount; i++) {
+                store.append(new PointHistory(i, 1L, i, TransactionType.CHARGE, i));
+            }
+            latch.countDown();
+        });
+        executorService.execute(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                List<PointHistory> histories = store.findAllByUserId(1L);
+                for (int j = 0; j < histories.size(); j++) {
+                    if (histories.get(j).id() != j + 1 || histories.get(j).amount() != j + 1) {
+                        broken.set(true);
+                    }
+                }
+            }
+            latch.countDown();
+        });
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(broken.get()).isFalse();
+        assertThat(store.findAllByUserId(1L)).hasSize(writeCount);
+    }
+
+    @Test
+    void cursor_이전_chunk_를_건너뛰고_조건에_맞는_히스토리만_조회한다() {
+        // given
+        int total = ColumnarPointHistoryStore.CHUNK_SIZE * 3;
+        for (long id = 1; id <= total; id++) {
+            TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            store.append(new PointHistory(id, 1L, id, type, id * 10));
+        }
+        long cursor = ColumnarPointHistoryStore.CHUNK_SIZE + 10L;
+        List<PointHistory> found = new ArrayList<>();
+
+        // when
+        store.scan(1L, new PointHistoryQuery(cursor, 0L, (cursor + 20) * 10, TransactionType.CHARGE), found::add);
+
+        // then
+        assertThat(found).extracting(PointHistory::id)
+            .containsExactly(cursor + 1, cursor + 3, cursor + 5, cursor + 7, cursor + 9,
+                cursor + 11, cursor + 13, cursor + 15, cursor + 17, cursor + 19);
+        assertThat(found).allSatisfy(pointHistory -> assertThat(pointHistory.amount()).isEqualTo(pointHistory.id()));
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import java.util.ArrayList;
+
+class PointHistoryIndexTest {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+    @Test
+    void 유저별_히스토리만_저장된_순서대로_조회한다() {
+        // given
+        pointHistoryIndex.append(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L));
+        pointHistoryIndex.append(new PointHistory(2L, 2L, 200L, TransactionType.CHARGE, 2L));
+        pointHistoryIndex.append(new PointHistory(3L, 1L, 50L, TransactionType.USE, 3L));
+
+        // when
+        List<PointHistory> histories = pointHistoryIndex.findAllByUserId(1L);
+
+        // then
+        assertThat(histories).extracting(PointHistory::id).containsExactly(1L, 3L);
+        assertThat(pointHistoryIndex.findAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    void 쓰기_도중_조회해도_채워지지_않은_항목은_보이지_않는다() throws InterruptedException {
+        // given
+        int writeCount = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicBoolean broken = new AtomicBoolean(false);
+
+        // when
+        executorService.execute(() -> {
+            for (long i = 1; i <= writeCount; i++) {
+                pointHistoryIndex.append(new PointHistory(i, 1L, i, TransactionType.CHARGE, i));
+            }
+            latch.countDown();
+        });
+        executorService.execute(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                List<PointHistory> histories = pointHistoryIndex.findAllByUserId(1L);
+                for (int j = 0; j < histories.size(); j++) {
+                    if (histories.get(j).id() != j + 1) {
+                        broken.set(true);
+                    }
+                }
+            }
+            latch.countDown();
+        });
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(broken.get()).isFalse();
+        assertThat(pointHistoryIndex.findAllByUserId(1L)).hasSize(writeCount);
+    }
+
+    @Test
+    void cursor_다음부터_조건에_맞는_히스토리만_visitor_가_멈출_때까지_넘긴다() {
+        // given
+        for (long id = 1; id <= 10; id++) {
+            TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointHistoryIndex.append(new PointHistory(id, 1L, id, type, id * 10));
+        }
+        List<PointHistory> found = new ArrayList<>();
+
+        // when
+        pointHistoryIndex.scan(1L, new PointHistoryQuery(3L, 0L, 100L, TransactionType.USE), pointHistory -> {
+            found.add(pointHistory);
+            return found.size() < 2;
+        });
+
+        // then
+        assertThat(found).extracting(PointHistory::id).containsExactly(4L, 6L);
+    }
+}
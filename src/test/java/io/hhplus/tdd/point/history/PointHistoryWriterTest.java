@@ -0,0 +1,256 @@
+package io.hhplus.tdd.point.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+class PointHistoryWriterTest {
+
+    private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+    // PointHistoryTable 과 같이 insert 순서대로 1 부터 번호를 매김
+    private final AtomicLong tableCursor = new AtomicLong();
+    private final List<PointHistory> inserted = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(this::insert);
+    }
+
+    private PointHistoryWriter writer(int queueCapacity, Backpressure backpressure) {
+        return new PointHistoryWriter(pointHistoryTable, pointHistoryIndex, new UserPointVersions(pointHistoryIndex),
+            new PointHistoryWriterProperties(queueCapacity, 10, backpressure, 10_000L));
+    }
+
+    @Test
+    void 테이블_insert_전이라도_기록한_히스토리를_바로_조회할_수_있다() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return insert(invocation);
+        }).when(pointHistoryTable).insert(anyLong(), anyLong(), any(), anyLong());
+        PointHistoryWriter writer = writer(10, Backpressure.BLOCK);
+
+        // when
+        PointHistory pointHistory = writer.write(1L, 100L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertThat(pointHistoryIndex.findAllByUserId(1L)).containsExactly(pointHistory);
+        release.countDown();
+        writer.close();
+    }
+
+    @Test
+    void 종료_시_대기열에_남은_히스토리를_모두_테이블에_반영한다() {
+        // given
+        PointHistoryWriter writer = writer(100, Backpressure.BLOCK);
+        for (int i = 0; i < 20; i++) {
+            writer.write(1L, 10L, TransactionType.CHARGE, i);
+        }
+
+        // when
+        writer.close();
+
+        // then
+        assertThat(writer.pendingCount()).isZero();
+        verify(pointHistoryTable, times(20)).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void FAIL_FAST_설정이면_대기열이_가득_찼을_때_바로_거절한다() throws InterruptedException {
+        // given
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            inserting.countDown();
+            release.await();
+            return insert(invocation);
+        }).when(pointHistoryTable).insert(anyLong(), anyLong(), any(), anyLong());
+        PointHistoryWriter writer = writer(2, Backpressure.FAIL_FAST);
+        writer.write(1L, 10L, TransactionType.CHARGE, 1L);
+        inserting.await();
+        writer.write(1L, 10L, TransactionType.CHARGE, 2L);
+
+        // when, then
+        assertThrows(RejectedExecutionException.class,
+            () -> writer.write(1L, 10L, TransactionType.CHARGE, 3L));
+        assertThat(pointHistoryIndex.findAllByUserId(1L)).hasSize(2);
+        release.countDown();
+        writer.close();
+    }
+
+    @Test
+    void insert_중인_히스토리도_대기열_자리를_차지하고_insert_가_끝나면_반납한다() throws InterruptedException {
+        // given
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            inserting.countDown();
+            release.await();
+            return insert(invocation);
+        }).when(pointHistoryTable).insert(anyLong(), anyLong(), any(), anyLong());
+        PointHistoryWriter writer = writer(1, Backpressure.FAIL_FAST);
+        writer.write(1L, 10L, TransactionType.CHARGE, 1L);
+        inserting.await();
+
+        // when, then
+        assertThrows(RejectedExecutionException.class,
+            () -> writer.write(1L, 10L, TransactionType.CHARGE, 2L));
+        release.countDown();
+        reserveWithin(writer, 1_000L);
+        writer.cancelReservation();
+        writer.close();
+    }
+
+    @Test
+    void 여러_유저가_동시에_기록해도_id_는_겹치지_않고_유저별로는_순서대로_저장된다() throws InterruptedException {
+        // given
+        PointHistoryWriter writer = writer(100_000, Backpressure.BLOCK);
+        int userCount = 8;
+        int perUser = 1_000;
+        Thread[] threads = new Thread[userCount];
+
+        // when
+        for (int i = 0; i < userCount; i++) {
+            long userId = i + 1;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < perUser; j++) {
+                    writer.write(userId, 1L, TransactionType.CHARGE, j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            List<PointHistory> histories = pointHistoryIndex.findAllByUserId(userId);
+            assertThat(histories).hasSize(perUser).isSortedAccordingTo(Comparator.comparingLong(PointHistory::id));
+            histories.forEach(pointHistory -> ids.add(pointHistory.id()));
+        }
+        assertThat(ids).hasSize(userCount * perUser);
+        writer.close();
+    }
+
+    @Test
+    void 발급한_id_가_늦게_들어와도_id_순서대로_insert_해서_테이블_순번과_같아진다() {
+        // given
+        PointHistoryWriter writer = writer(10, Backpressure.BLOCK);
+        long firstId = writer.nextId();
+        long secondId = writer.nextId();
+        writer.reserve();
+        writer.reserve();
+
+        // when
+        writer.writeReserved(new PointHistory(secondId, 2L, 20L, TransactionType.CHARGE, 2L));
+        writer.writeReserved(new PointHistory(firstId, 1L, 10L, TransactionType.CHARGE, 1L));
+        writer.write(1L, 30L, TransactionType.USE, 3L);
+        writer.close();
+
+        // then
+        assertThat(inserted).extracting(PointHistory::amount).containsExactly(10L, 20L, 30L);
+        assertThat(inserted).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+        assertThat(pointHistoryIndex.findAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_기록해도_테이블_순번이_발급한_id_와_같다() throws InterruptedException {
+        // given
+        PointHistoryWriter writer = writer(100_000, Backpressure.BLOCK);
+        Thread[] threads = new Thread[8];
+
+        // when
+        for (int i = 0; i < threads.length; i++) {
+            long userId = i + 1;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    writer.write(userId, userId, TransactionType.CHARGE, j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writer.close();
+
+        // then
+        assertThat(inserted).hasSize(4_000);
+        for (PointHistory tableHistory : inserted) {
+            PointHistory written = pointHistoryIndex.findAllByUserId(tableHistory.userId()).stream()
+                .filter(pointHistory -> pointHistory.id() == tableHistory.id())
+                .findFirst().orElseThrow();
+            assertThat(written.updateMillis()).isEqualTo(tableHistory.updateMillis());
+        }
+    }
+
+    @Test
+    void 복구한_히스토리를_먼저_테이블에_다시_넣고_그_다음_id_부터_발급한다() {
+        // given
+        PointHistoryWriter writer = writer(1, Backpressure.FAIL_FAST);
+        List<PointHistory> recovered = List.of(
+            new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L),
+            new PointHistory(2L, 1L, 30L, TransactionType.USE, 2L));
+
+        // when
+        writer.replay(recovered);
+        PointHistory written = writer.write(1L, 10L, TransactionType.CHARGE, 3L);
+        writer.close();
+
+        // then
+        assertThat(written.id()).isEqualTo(3L);
+        assertThat(inserted).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+        assertThat(inserted).extracting(PointHistory::amount).containsExactly(100L, 30L, 10L);
+    }
+
+    private PointHistory insert(InvocationOnMock invocation) {
+        PointHistory pointHistory = new PointHistory(tableCursor.incrementAndGet(), invocation.getArgument(0),
+            invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3));
+        inserted.add(pointHistory);
+        return pointHistory;
+    }
+
+    // insert 가 끝나 slot 이 반납될 때까지 다시 시도
+    private void reserveWithin(PointHistoryWriter writer, long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (true) {
+            try {
+                writer.reserve();
+                return;
+            } catch (RejectedExecutionException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.TransactionType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TieredPointHistoryStoreTest {
+
+    private static final int HOT_SIZE = 8;
+
+    @TempDir
+    Path directory;
+
+    private TieredPointHistoryStore store;
+
+    // 세그먼트 하나에 블록 두 개 (4건씩) 만 들어가는 크기
+    private TieredPointHistoryStore store() {
+        store = new TieredPointHistoryStore(new TieredPointHistoryProperties(
+            directory.toString(), HOT_SIZE, HOT_SIZE * TieredPointHistoryStore.RECORD_SIZE));
+        return store;
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void 세그먼트로_옮긴_히스토리와_최근_히스토리를_저장한_값_그대로_순서대로_조회한다() throws IOException {
+        // given
+        TieredPointHistoryStore store = store();
+        List<PointHistory> expected = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            long amount = id % 5 == 0 ? Long.MAX_VALUE : id * 100;
+            TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            PointHistory pointHistory = new PointHistory(id * 2, 1L, amount, type, 1_700_000_000_000L - id);
+            expected.add(pointHistory);
+            store.append(pointHistory);
+            store.append(new PointHistory(id * 2 + 1, 2L, id, TransactionType.CHARGE, id));
+        }
+
+        // when
+        List<PointHistory> histories = store.findAllByUserId(1L);
+
+        // then
+        assertThat(histories).containsExactlyElementsOf(expected);
+        assertThat(store.findAllByUserId(2L)).hasSize(100);
+        assertThat(store.findAllByUserId(3L)).isEmpty();
+        assertThat(store.coldCount()).isGreaterThan(150L);
+        try (var segments = Files.list(store.segmentDirectory())) {
+            assertThat(segments.count()).isGreaterThan(1L);
+        }
+    }
+
+    @Test
+    void cursor_와_타입_조건은_세그먼트와_최근_히스토리_모두에_적용하고_visitor_가_멈추면_중단한다() {
+        // given
+        TieredPointHistoryStore store = store();
+        for (long id = 1; id <= 40; id++) {
+            store.append(new PointHistory(id, 1L, id, id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, id));
+        }
+        List<Long> found = new ArrayList<>();
+
+        // when
+        store.scan(1L, PointHistoryQuery.of(10L, null, null, TransactionType.USE), pointHistory -> {
+            found.add(pointHistory.id());
+            return found.size() < 12;
+        });
+
+        // then
+        assertThat(found).containsExactly(12L, 14L, 16L, 18L, 20L, 22L, 24L, 26L, 28L, 30L, 32L, 34L);
+    }
+
+    @Test
+    void 쓰기_도중_조회해도_쓴_순서대로_빠짐없이_보인다() throws InterruptedException {
+        // given
+        TieredPointHistoryStore store = store();
+        int writeCount = 20_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicBoolean broken = new AtomicBoolean(false);
+
+        // when
+        executorService.execute(() -> {
+            for (long i = 1; i <= writeCount; i++) {
+                store.append(new PointHistory(i, 1L, i, TransactionType.CHARGE, i));
+            }
+            latch.countDown();
+        });
+        executorService.execute(() -> {
+            for (int i = 0; i < 200; i++) {
+                List<PointHistory> histories = store.findAllByUserId(1L);
+                for (int j = 0; j < histories.size(); j++) {
+                    if (histories.get(j).id() != j + 1 || histories.get(j).amount() != j + 1) {
+                        broken.set(true);
+                    }
+                }
+            }
+            latch.countDown();
+        });
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(broken.get()).isFalse();
+        assertThat(store.findAllByUserId(1L)).hasSize(writeCount);
+    }
+
+    @Test
+    void 인스턴스마다_따로_만든_디렉터리에_세그먼트를_쓰고_종료하면_그_디렉터리만_지운다() throws IOException {
+        // given
+        Files.writeString(directory.resolve("history-0.seg"), "other");
+        TieredPointHistoryStore first = store();
+        TieredPointHistoryStore second = new TieredPointHistoryStore(new TieredPointHistoryProperties(
+            directory.toString(), HOT_SIZE, HOT_SIZE * TieredPointHistoryStore.RECORD_SIZE));
+        for (long id = 1; id <= 20; id++) {
+            first.append(new PointHistory(id, 1L, id, TransactionType.CHARGE, id));
+            second.append(new PointHistory(id, 1L, id, TransactionType.CHARGE, id));
+        }
+
+        // when
+        second.close();
+
+        // then
+        assertThat(first.segmentDirectory()).isNotEqualTo(second.segmentDirectory());
+        assertThat(second.segmentDirectory()).doesNotExist();
+        assertThat(first.findAllByUserId(1L)).hasSize(20);
+        assertThat(second.findAllByUserId(1L)).isEmpty();
+        assertThat(directory.resolve("history-0.seg")).hasContent("other");
+    }
+}
@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executed = new AtomicInteger(0);
+
+    private IdempotencyCache idempotencyCache(int maxSize, long ttlMillis) {
+        return new IdempotencyCache(new IdempotencyProperties(maxSize, ttlMillis), new PointMetrics(meterRegistry));
+    }
+
+    private CompletableFuture<UserPoint> charge(long point) {
+        executed.incrementAndGet();
+        return CompletableFuture.completedFuture(new UserPoint(1L, point, 0L));
+    }
+
+    @Test
+    void 같은_key_로_다시_오면_실행하지_않고_처음_결과를_반환한다() {
+        // given
+        IdempotencyCache cache = idempotencyCache(100, 60_000L);
+        PointOperation operation = new PointOperation(1L, 100L, TransactionType.CHARGE);
+        cache.execute("key-1", operation, () -> charge(100L));
+
+        // when
+        UserPoint retried = cache.<UserPoint>execute("key-1", operation, () -> charge(200L)).join();
+
+        // then
+        assertThat(retried.point()).isEqualTo(100L);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.idempotency.hits").tag("state", "completed").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.idempotency.entries").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.idempotency.memory").gauge().value())
+            .isEqualTo(IdempotencyCache.ENTRY_OVERHEAD_BYTES + "key-1".length());
+    }
+
+    @Test
+    void 처리_중인_요청과_같은_key_는_실행하지_않고_처음_요청의_결과를_기다린다() {
+        // given
+        IdempotencyCache cache = idempotencyCache(100, 60_000L);
+        PointOperation operation = new PointOperation(1L, 100L, TransactionType.CHARGE);
+        CompletableFuture<UserPoint> original = new CompletableFuture<>();
+        CompletableFuture<UserPoint> first = cache.execute("key-1", operation, () -> original);
+
+        // when
+        CompletableFuture<UserPoint> duplicate = cache.execute("key-1", operation, () -> charge(200L));
+        original.complete(new UserPoint(1L, 100L, 0L));
+
+        // then
+        assertThat(duplicate.join()).isEqualTo(first.join());
+        assertThat(executed.get()).isZero();
+        assertThat(meterRegistry.get("point.idempotency.hits").tag("state", "in_flight").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void 실패한_요청은_지워서_같은_key_로_재시도하면_다시_실행한다() {
+        // given
+        IdempotencyCache cache = idempotencyCache(100, 60_000L);
+        PointOperation operation = new PointOperation(1L, 100L, TransactionType.CHARGE);
+        CompletableFuture<UserPoint> failed = cache.execute("key-1", operation,
+            () -> CompletableFuture.failedFuture(new IllegalStateException("일시적 실패")));
+
+        // when
+        UserPoint retried = cache.<UserPoint>execute("key-1", operation, () -> charge(100L)).join();
+
+        // then
+        assertThrows(CompletionException.class, failed::join);
+        assertThat(retried.point()).isEqualTo(100L);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.estimatedBytes()).isEqualTo(IdempotencyCache.ENTRY_OVERHEAD_BYTES + "key-1".length());
+    }
+
+    @Test
+    void 실패해서_지운_항목은_순서_맵에도_남기지_않는다() {
+        // given
+        IdempotencyCache cache = idempotencyCache(100, 60_000L);
+        cache.execute("key-0", new PointOperation(1L, 100L, TransactionType.CHARGE), () -> charge(100L));
+
+        // when
+        for (int i = 1; i <= 1_000; i++) {
+            cache.execute("key-" + i, new PointOperation(1L, 100L, TransactionType.CHARGE),
+                () -> CompletableFuture.failedFuture(new IllegalStateException("일시적 실패")));
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.orderedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_key_로_금액이_다른_요청이_오면_IdempotencyKeyMismatchException_이_발생한다() {
+        // given
+        IdempotencyCache cache = idempotencyCache(100, 60_000L);
+        cache.execute("key-1", new PointOperation(1L, 100L, TransactionType.CHARGE), () -> charge(100L));
+
+        // when, then
+        assertThrows(IdempotencyKeyMismatchException.class, () ->
+            cache.execute("key-1", new PointOperation(1L, 500L, TransactionType.CHARGE), () -> charge(500L)));
+    }
+
+    @Test
+    void 같은_key_라도_유저가_다르면_따로_실행한다() {
+        // given
+        IdempotencyCache cache = idempotencyCache(100, 60_000L);
+        cache.execute("key-1", new PointOperation(1L, 100L, TransactionType.CHARGE), () -> charge(100L));
+
+        // when
+        cache.execute("key-1", new PointOperation(2L, 100L, TransactionType.CHARGE), () -> charge(100L));
+
+        // then
+        assertThat(executed.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_오래된_항목부터_지운다() {
+        // given
+        IdempotencyCache cache = idempotencyCache(2, 60_000L);
+        for (int i = 1; i <= 3; i++) {
+            cache.execute("key-" + i, new PointOperation(1L, 100L, TransactionType.CHARGE), () -> charge(100L));
+        }
+
+        // when
+        cache.execute("key-1", new PointOperation(1L, 100L, TransactionType.CHARGE), () -> charge(100L));
+        cache.execute("key-3", new PointOperation(1L, 100L, TransactionType.CHARGE), () -> charge(100L));
+
+        // then
+        assertThat(executed.get()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void ttl_이_지난_key_는_다시_실행한다() throws InterruptedException {
+        // given
+        IdempotencyCache cache = idempotencyCache(100, 20L);
+        PointOperation operation = new PointOperation(1L, 100L, TransactionType.CHARGE);
+        cache.execute("key-1", operation, () -> charge(100L));
+
+        // when
+        Thread.sleep(40);
+        cache.execute("key-1", operation, () -> charge(100L));
+
+        // then
+        assertThat(executed.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
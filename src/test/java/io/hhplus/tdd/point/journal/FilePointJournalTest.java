@@ -0,0 +1,233 @@
+package io.hhplus.tdd.point.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointChange;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FilePointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private PointHistoryWriter pointHistoryWriter = mock(PointHistoryWriter.class);
+    private final AtomicLong historyIds = new AtomicLong();
+
+    private FilePointJournal open(long segmentSize) throws IOException {
+        pointHistoryIndex = new PointHistoryIndex();
+        pointHistoryWriter = mock(PointHistoryWriter.class);
+        return new FilePointJournal(new PointJournalProperties(true, directory.toString(), segmentSize, 4096, 0L, 0L),
+            pointHistoryIndex, pointHistoryWriter);
+    }
+
+    @Test
+    void 재시작하면_마지막_포인트와_히스토리를_복구한다() throws IOException {
+        // given
+        FilePointJournal journal = open(1 << 20);
+        journal.appendChanges(1L, List.of(new PointChange(100L, TransactionType.CHARGE, 100L)), 10L,
+            historyIds::incrementAndGet);
+        journal.appendChanges(1L, List.of(new PointChange(30L, TransactionType.USE, 70L)), 20L,
+            historyIds::incrementAndGet);
+        journal.appendPoint(new UserPoint(2L, 5L, 30L));
+        journal.close();
+
+        // when
+        FilePointJournal reopened = open(1 << 20);
+
+        // then
+        assertThat(reopened.findRecoveredPoint(1L)).isEqualTo(new UserPoint(1L, 70L, 20L));
+        assertThat(reopened.findRecoveredPoint(2L)).isEqualTo(new UserPoint(2L, 5L, 30L));
+        assertThat(reopened.findRecoveredPoint(3L)).isNull();
+        assertThat(pointHistoryIndex.findAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L, 2L);
+        verify(pointHistoryWriter).replay(pointHistoryIndex.findAllByUserId(1L));
+        reopened.close();
+    }
+
+    @Test
+    void 복구한_포인트는_저장소에_다시_저장되면_더이상_제공하지_않는다() throws IOException {
+        // given
+        FilePointJournal journal = open(1 << 20);
+        journal.appendPoint(new UserPoint(1L, 100L, 10L));
+        journal.close();
+        FilePointJournal reopened = open(1 << 20);
+        reopened.appendChanges(1L, List.of(new PointChange(50L, TransactionType.USE, 50L)), 20L,
+            historyIds::incrementAndGet);
+        UserPoint beforeRelease = reopened.findRecoveredPoint(1L);
+
+        // when
+        reopened.releaseRecoveredPoint(1L);
+
+        // then
+        assertThat(beforeRelease).isEqualTo(new UserPoint(1L, 100L, 10L));
+        assertThat(reopened.findRecoveredPoint(1L)).isNull();
+        reopened.close();
+    }
+
+    @Test
+    void 쓰다가_멈춘_꼬리는_버리고_앞의_기록까지_복구한다() throws IOException {
+        // given
+        FilePointJournal journal = open(1 << 20);
+        journal.appendPoint(new UserPoint(1L, 100L, 10L));
+        journal.appendPoint(new UserPoint(1L, 200L, 20L));
+        journal.close();
+        Path segment = files(".log").get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 3);
+        }
+
+        // when
+        FilePointJournal reopened = open(1 << 20);
+
+        // then
+        assertThat(reopened.findRecoveredPoint(1L)).isEqualTo(new UserPoint(1L, 100L, 10L));
+        assertThat(Files.size(segment)).isEqualTo(JournalCodec.POINT_SIZE);
+        reopened.close();
+    }
+
+    @Test
+    void 스냅샷을_만들면_합친_세그먼트를_지우고_스냅샷으로_복구한다() throws IOException {
+        // given
+        FilePointJournal journal = open(JournalCodec.CHANGE_SIZE * 4L);
+        for (long id = 1; id <= 20; id++) {
+            journal.appendChanges(id % 3, List.of(new PointChange(id, TransactionType.CHARGE, id)), id,
+                historyIds::incrementAndGet);
+        }
+
+        // when
+        journal.snapshot();
+        journal.appendPoint(new UserPoint(0L, 1000L, 100L));
+        journal.close();
+        FilePointJournal reopened = open(1 << 20);
+
+        // then
+        assertThat(files(".snap")).hasSize(1);
+        assertThat(files(".log")).hasSize(2);
+        assertThat(reopened.findRecoveredPoint(0L)).isEqualTo(new UserPoint(0L, 1000L, 100L));
+        assertThat(reopened.findRecoveredPoint(1L)).isEqualTo(new UserPoint(1L, 19L, 19L));
+        assertThat(pointHistoryIndex.findAllByUserId(2L)).hasSize(7);
+        verify(pointHistoryWriter).replay(argThat(histories -> histories.size() == 20 && histories.get(19).id() == 20L));
+        reopened.close();
+    }
+
+    @Test
+    void 동시에_기록해도_모든_기록이_fsync_된_뒤에_반환된다() throws Exception {
+        // given
+        FilePointJournal journal = open(1 << 20);
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        for (long id = 1; id <= 1000; id++) {
+            long userId = id;
+            executorService.execute(() -> journal.appendPoint(new UserPoint(userId, userId, userId)));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(30, TimeUnit.SECONDS);
+        journal.close();
+
+        // then
+        long size = 0;
+        for (Path file : files(".log")) {
+            size += Files.size(file);
+        }
+        assertThat(size).isEqualTo(JournalCodec.POINT_SIZE * 1000L);
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    @Test
+    void 송금_기록은_양쪽_포인트와_히스토리를_함께_복구하고_잘린_송금은_모두_버린다() throws IOException {
+        // given
+        FilePointJournal journal = open(1 << 20);
+        journal.appendTransfer(new UserPoint(1L, 70L, 10L), new UserPoint(2L, 30L, 10L), 30L,
+            historyIds::incrementAndGet);
+        journal.appendTransfer(new UserPoint(1L, 50L, 20L), new UserPoint(2L, 50L, 20L), 20L,
+            historyIds::incrementAndGet);
+        journal.close();
+        Path segment = files(".log").get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 10);
+        }
+
+        // when
+        FilePointJournal reopened = open(1 << 20);
+
+        // then
+        assertThat(reopened.findRecoveredPoint(1L)).isEqualTo(new UserPoint(1L, 70L, 10L));
+        assertThat(reopened.findRecoveredPoint(2L)).isEqualTo(new UserPoint(2L, 30L, 10L));
+        assertThat(pointHistoryIndex.findAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L);
+        assertThat(pointHistoryIndex.findAllByUserId(2L)).extracting(PointHistory::id).containsExactly(2L);
+        assertThat(Files.size(segment)).isEqualTo(JournalCodec.TRANSFER_SIZE);
+        reopened.close();
+    }
+
+    @Test
+    void 충전_사용은_건마다_히스토리와_포인트를_하나의_기록으로_남기고_발급한_id_순서대로_반환한다() throws IOException {
+        // given
+        FilePointJournal journal = open(1 << 20);
+
+        // when
+        List<PointHistory> histories = journal.appendChanges(1L, List.of(
+            new PointChange(100L, TransactionType.CHARGE, 100L),
+            new PointChange(30L, TransactionType.USE, 70L)), 10L, historyIds::incrementAndGet);
+        journal.close();
+
+        // then
+        assertThat(histories).containsExactly(
+            new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 10L),
+            new PointHistory(2L, 1L, 30L, TransactionType.USE, 10L));
+        assertThat(Files.size(files(".log").get(0))).isEqualTo(JournalCodec.CHANGE_SIZE * 2L);
+    }
+
+    @Test
+    void 잔액과_히스토리를_쓰는_사이에_프로세스가_죽으면_그_충전_사용은_잔액과_히스토리_모두_복구하지_않는다() throws IOException {
+        // given
+        FilePointJournal journal = open(1 << 20);
+        journal.appendChanges(1L, List.of(new PointChange(100L, TransactionType.CHARGE, 100L)), 10L,
+            historyIds::incrementAndGet);
+        journal.appendChanges(1L, List.of(new PointChange(30L, TransactionType.USE, 70L)), 20L,
+            historyIds::incrementAndGet);
+        journal.close();
+
+        // 두 번째 기록의 히스토리까지만 쓰고 잔액을 쓰기 전에 죽은 상태 (잔액 부분을 잘라냄)
+        Path segment = files(".log").get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - Long.BYTES * 3);
+        }
+
+        // when
+        FilePointJournal reopened = open(1 << 20);
+
+        // then
+        assertThat(reopened.findRecoveredPoint(1L)).isEqualTo(new UserPoint(1L, 100L, 10L));
+        assertThat(pointHistoryIndex.findAllByUserId(1L))
+            .containsExactly(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 10L));
+        assertThat(Files.size(segment)).isEqualTo(JournalCodec.CHANGE_SIZE);
+        reopened.close();
+    }
+}
@@ -0,0 +1,92 @@
+package io.hhplus.tdd.point.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.PointSummary;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.lang.reflect.Type;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class PointJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 유저_포인트와_히스토리를_Jackson_과_같은_JSON_으로_쓴다() throws IOException {
+        // given
+        UserPoint userPoint = new UserPoint(1L, 0L, 1_700_000_000_000L);
+        List<PointHistory> histories = List.of(
+            new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1_700_000_000_000L),
+            new PointHistory(Long.MAX_VALUE, Long.MIN_VALUE, -9L, TransactionType.USE, 0L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointJsonWriter writer = PointJsonWriter.of(out);
+        writer.userPoint(userPoint).newLine();
+        writer.pointHistory(histories.get(1)).newLine();
+        writer.pointHistories(histories);
+        writer.flush();
+
+        // then
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo(
+            objectMapper.writeValueAsString(userPoint) + "\n"
+                + objectMapper.writeValueAsString(histories.get(1)) + "\n"
+                + objectMapper.writeValueAsString(histories));
+    }
+
+    @Test
+    void 버퍼보다_긴_목록도_끊기지_않게_나눠서_내보낸다() throws IOException {
+        // given
+        List<PointHistory> histories = new ArrayList<>();
+        for (long i = 1; i <= 10_000; i++) {
+            histories.add(new PointHistory(i, i % 7, i * 31, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i * 1_000));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointJsonWriter.of(out).pointHistories(histories).flush();
+
+        // then
+        assertThat(out.size()).isGreaterThan(PointJsonWriter.BUFFER_SIZE);
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo(objectMapper.writeValueAsString(histories));
+        assertThat(objectMapper.readValue(out.toByteArray(), new TypeReference<List<PointHistory>>() {
+        })).isEqualTo(histories);
+    }
+
+    @Test
+    void converter_는_유저_포인트와_히스토리_목록만_쓰고_읽지_않는다() throws NoSuchFieldException {
+        // given
+        PointJsonHttpMessageConverter converter = new PointJsonHttpMessageConverter();
+
+        // when
+        // then
+        assertThat(converter.canWrite(UserPoint.class, UserPoint.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(field("pointHistories"), List.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(field("names"), List.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(field("historySet"), Set.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(PointSummary.class, PointSummary.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(UserPoint.class, UserPoint.class, MediaType.TEXT_PLAIN)).isFalse();
+        assertThat(converter.canRead(UserPoint.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private static Type field(String name) throws NoSuchFieldException {
+        return Types.class.getDeclaredField(name).getGenericType();
+    }
+
+    private static final class Types {
+        List<PointHistory> pointHistories;
+        List<String> names;
+        Set<PointHistory> historySet;
+    }
+}
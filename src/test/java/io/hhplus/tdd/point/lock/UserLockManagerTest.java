@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class UserLockManagerTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void 같은_유저의_작업은_동시에_실행되지_않는다() throws InterruptedException {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(16, false, 0L), pointMetrics);
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                userLockManager.withLock(1L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(10);
+                    return running.decrementAndGet();
+                });
+                latch.countDown();
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        int stripe = userLockManager.stripeOf(1L);
+        assertThat(userLockManager.stats(stripe).acquisitions()).isEqualTo(threadCount);
+        assertThat(userLockManager.stats(stripe).contended()).isPositive();
+    }
+
+    @Test
+    void 대기_시간을_넘기면_LockTimeoutException_이_발생한다() throws InterruptedException {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(16, true, 50L), pointMetrics);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> userLockManager.withLock(1L, () -> {
+            locked.countDown();
+            await(release);
+            return null;
+        }));
+        holder.start();
+        locked.await();
+
+        // when, then
+        assertThrows(LockTimeoutException.class, () -> userLockManager.withLock(1L, () -> null));
+        release.countDown();
+        holder.join();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void 두_유저의_락을_서로_반대_순서로_요청해도_교착_상태에_빠지지_않는다() throws InterruptedException {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(16, false, 0L), pointMetrics);
+        long userId = 1L;
+        long otherUserId = 2L;
+        while (userLockManager.stripeOf(otherUserId) == userLockManager.stripeOf(userId)) {
+            otherUserId++;
+        }
+        long other = otherUserId;
+        int threadCount = 8;
+        int repeat = 1_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            boolean reversed = i % 2 == 0;
+            executorService.execute(() -> {
+                for (int j = 0; j < repeat; j++) {
+                    userLockManager.withLocks(reversed ? other : userId, reversed ? userId : other, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        return running.decrementAndGet();
+                    });
+                }
+                latch.countDown();
+            });
+        }
+
+        // then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(userLockManager.stats(userLockManager.stripeOf(userId)).acquisitions())
+            .isEqualTo((long) threadCount * repeat);
+    }
+}
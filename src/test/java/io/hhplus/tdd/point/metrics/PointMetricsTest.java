@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.cache.EvictionPolicy;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.journal.NoopPointJournal;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.lock.UserLockProperties;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.hhplus.tdd.point.summary.UserPointVersions;
+import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class PointMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    void 저장소_메서드별_처리_시간을_기록한다() {
+        // given
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        PointRepository pointRepository = new PointRepository(new TableUserPointStore(new UserPointTable()), pointHistoryIndex,
+            mock(PointHistoryWriter.class), new UserPointVersions(pointHistoryIndex),
+            new UserPointCache(new UserPointCacheProperties(16, EvictionPolicy.LRU), pointMetrics), new NoopPointJournal(), pointMetrics);
+
+        // when
+        pointRepository.findUserPointById(1L);
+        pointRepository.findUserPointById(1L);
+        pointRepository.findPointHistoryById(1L);
+
+        // then
+        assertThat(meterRegistry.get("point.repository").tag("method", "findUserPointById").timer().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("point.repository").tag("method", "findPointHistoryById").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("point.repository").tag("method", "savePoint").timer().count())
+            .isZero();
+    }
+
+    @Test
+    void 검증에서_거절된_요청을_이유별로_센다() {
+        // given
+        PointValidator pointValidator = new PointValidator(pointMetrics);
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> pointValidator.validatePointAmountBelowZero(0L));
+        assertThrows(IllegalArgumentException.class, () -> pointValidator.validateTotalPointAmount(10L, 20L));
+        pointValidator.validateTotalPointAmount(20L, 10L);
+
+        // then
+        assertThat(meterRegistry.get("point.validation.rejections").tag("reason", "non_positive_amount")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.validation.rejections").tag("reason", "insufficient_point")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 락_획득마다_대기_시간을_기록한다() {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(16, false, 0L), pointMetrics);
+
+        // when
+        userLockManager.withLock(1L, () -> null);
+        userLockManager.withLock(2L, () -> null);
+
+        // then
+        assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 락_stripe_전체의_획득_횟수와_대기열_길이를_내보낸다() {
+        // given
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(16, false, 0L), pointMetrics);
+
+        // when
+        userLockManager.withLock(1L, () -> null);
+        userLockManager.withLock(2L, () -> null);
+        userLockManager.withLocks(1L, 3L, () -> null);
+
+        // then
+        assertThat(meterRegistry.get("point.lock.acquisitions").functionCounter().count()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("point.lock.contended").functionCounter().count()).isZero();
+        assertThat(meterRegistry.get("point.lock.queue").gauge().value()).isZero();
+    }
+}
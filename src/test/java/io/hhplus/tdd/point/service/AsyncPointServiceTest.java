@@ -0,0 +1,340 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.admission.AdmissionProperties;
+import io.hhplus.tdd.point.admission.AdmissionRejectedException;
+import io.hhplus.tdd.point.admission.PointAdmission;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.point.metrics.AdmissionRejection;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class AsyncPointServiceTest {
+
+    private final PointService pointService = mock(PointService.class);
+    private AsyncPointService asyncPointService;
+
+    private AsyncPointService asyncPointService(int poolSize, int queueCapacity, long timeoutMillis) {
+        return asyncPointService(poolSize, queueCapacity, timeoutMillis, new AdmissionProperties(false, 1L, 1L, 1, 1));
+    }
+
+    private AsyncPointService asyncPointService(int poolSize, int queueCapacity, long timeoutMillis,
+            AdmissionProperties admissionProperties) {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        asyncPointService = new AsyncPointService(pointService,
+            new IdempotencyCache(new IdempotencyProperties(1_000, 60_000L), pointMetrics),
+            new PointAdmission(admissionProperties, pointMetrics),
+            new AsyncPointProperties(poolSize, queueCapacity, timeoutMillis), new MockEnvironment());
+        return asyncPointService;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        asyncPointService.close();
+    }
+
+    @Test
+    void 같은_유저의_충전과_사용은_요청한_순서대로_히스토리에_남는다() {
+        // given
+        AsyncPointService service = asyncPointService(8, 100, 5_000L);
+        List<PointHistory> histories = new CopyOnWriteArrayList<>();
+        given(pointService.chargePoint(eq(1L), anyLong())).willAnswer(invocation ->
+            record(histories, invocation.getArgument(1), TransactionType.CHARGE));
+        given(pointService.usePoint(eq(1L), anyLong())).willAnswer(invocation ->
+            record(histories, invocation.getArgument(1), TransactionType.USE));
+
+        // when
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[40];
+        for (int i = 0; i < futures.length; i++) {
+            long amount = i + 1;
+            futures[i] = i % 2 == 0 ? service.chargePoint(1L, amount) : service.usePoint(1L, amount);
+        }
+        CompletableFuture.allOf(futures).join();
+
+        // then
+        assertThat(histories).extracting(PointHistory::amount)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1, futures.length).boxed().toList());
+        for (PointHistory history : histories) {
+            assertThat(history.type()).isEqualTo(history.amount() % 2 == 1 ? TransactionType.CHARGE : TransactionType.USE);
+        }
+    }
+
+    @Test
+    void 다른_유저의_요청은_앞선_유저의_요청을_기다리지_않는다() {
+        // given
+        AsyncPointService service = asyncPointService(8, 100, 5_000L);
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointService.chargePoint(1L, 10L)).willAnswer(invocation -> {
+            release.await();
+            return new UserPoint(1L, 10L, 0L);
+        });
+        given(pointService.chargePoint(2L, 20L)).willReturn(new UserPoint(2L, 20L, 0L));
+        CompletableFuture<UserPoint> first = service.chargePoint(1L, 10L);
+
+        // when
+        UserPoint other = service.chargePoint(2L, 20L).join();
+
+        // then
+        assertThat(other.point()).isEqualTo(20L);
+        assertThat(first).isNotDone();
+        release.countDown();
+        assertThat(first.join().point()).isEqualTo(10L);
+    }
+
+    @Test
+    void 실행_대기열이_가득_차면_RejectedExecutionException_으로_완료된다() throws InterruptedException {
+        // given
+        AsyncPointService service = asyncPointService(1, 1, 5_000L);
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointService.getUserPoint(anyLong())).willAnswer(invocation -> {
+            release.await();
+            return UserPoint.empty(invocation.getArgument(0));
+        });
+        service.getUserPoint(1L);
+        service.getUserPoint(2L);
+
+        // when
+        CompletableFuture<UserPoint> rejected = service.getUserPoint(3L);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertThat(exception.getCause()).isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+    }
+
+    @Test
+    void 제한_시간_안에_끝나지_않으면_TimeoutException_으로_완료된다() {
+        // given
+        AsyncPointService service = asyncPointService(1, 10, 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointService.getUserPoint(1L)).willAnswer(invocation -> {
+            release.await();
+            return UserPoint.empty(1L);
+        });
+
+        // when
+        CompletableFuture<UserPoint> future = service.getUserPoint(1L);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause()).isInstanceOf(TimeoutException.class);
+        release.countDown();
+    }
+
+    @Test
+    void 일괄_처리는_유저_안에서는_요청_순서대로_적용하고_결과를_요청_순서대로_반환한다() {
+        // given
+        AsyncPointService service = asyncPointService(4, 100, 5_000L);
+        Map<Long, List<Long>> applied = new ConcurrentHashMap<>();
+        given(pointService.apply(any())).willAnswer(invocation -> {
+            PointOperation operation = invocation.getArgument(0);
+            if (operation.type() == TransactionType.USE) {
+                throw new IllegalArgumentException("포인트 부족");
+            }
+            Thread.sleep(operation.amount() % 3 == 0 ? 5 : 1);
+            applied.computeIfAbsent(operation.userId(), userId -> new CopyOnWriteArrayList<>()).add(operation.amount());
+            return new UserPoint(operation.userId(), operation.amount(), 0L);
+        });
+        List<PointOperation> operations = new ArrayList<>();
+        for (long amount = 1; amount <= 30; amount++) {
+            operations.add(new PointOperation(amount % 3 + 1, amount, TransactionType.CHARGE));
+        }
+        operations.add(5, new PointOperation(1L, 100L, TransactionType.USE));
+
+        // when
+        List<PointOperationResult> results = service.applyBatch(operations).join();
+
+        // then
+        assertThat(results).hasSize(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            assertThat(results.get(i).userId()).isEqualTo(operations.get(i).userId());
+            assertThat(results.get(i).amount()).isEqualTo(operations.get(i).amount());
+        }
+        assertThat(results.get(5).success()).isFalse();
+        assertThat(results.get(5).message()).isEqualTo("포인트 부족");
+        assertThat(results).filteredOn(PointOperationResult::success).hasSize(30)
+            .allSatisfy(result -> assertThat(result.point()).isEqualTo(result.amount()));
+        assertThat(applied.get(1L)).isSorted().hasSize(10);
+        assertThat(applied.get(2L)).isSorted().hasSize(10);
+        assertThat(applied.get(3L)).isSorted().hasSize(10);
+    }
+
+    @Test
+    void 실행_대기열이_가득_차서_시작하지_못한_유저의_일괄_처리_건은_실패로_반환한다() {
+        // given
+        AsyncPointService service = asyncPointService(1, 1, 5_000L);
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointService.getUserPoint(anyLong())).willAnswer(invocation -> {
+            release.await();
+            return UserPoint.empty(invocation.getArgument(0));
+        });
+        service.getUserPoint(100L);
+        service.getUserPoint(200L);
+        List<PointOperation> operations = List.of(
+            new PointOperation(1L, 10L, TransactionType.CHARGE),
+            new PointOperation(2L, 10L, TransactionType.CHARGE),
+            new PointOperation(1L, 20L, TransactionType.CHARGE));
+
+        // when
+        List<PointOperationResult> results = service.applyBatch(operations).join();
+
+        // then
+        assertThat(results).extracting(PointOperationResult::success).containsExactly(false, false, false);
+        assertThat(results).extracting(PointOperationResult::amount).containsExactly(10L, 10L, 20L);
+        release.countDown();
+    }
+
+    @Test
+    void 유저의_처리_대기_요청이_제한을_넘으면_줄_세우지_않고_바로_거절하고_끝난_뒤에는_다시_받는다() throws InterruptedException {
+        // given
+        AsyncPointService service = asyncPointService(4, 100, 5_000L,
+            new AdmissionProperties(true, 1_000_000L, 1_000_000L, 2, 100));
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointService.usePoint(anyLong(), anyLong())).willAnswer(invocation -> {
+            release.await();
+            return new UserPoint(invocation.getArgument(0), 0L, 0L);
+        });
+        CompletableFuture<UserPoint> first = service.usePoint(1L, 10L);
+        CompletableFuture<UserPoint> second = service.usePoint(1L, 10L);
+
+        // when
+        CompletableFuture<UserPoint> rejected = service.usePoint(1L, 10L);
+        CompletableFuture<UserPoint> otherUser = service.usePoint(2L, 10L);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertThat(exception.getCause()).isInstanceOf(AdmissionRejectedException.class);
+        assertThat(((AdmissionRejectedException) exception.getCause()).rejection()).isEqualTo(AdmissionRejection.USER_PENDING);
+        release.countDown();
+        CompletableFuture.allOf(first, second, otherUser).join();
+        assertThat(service.usePoint(1L, 10L).join().id()).isEqualTo(1L);
+    }
+
+    @Test
+    void 일괄_처리도_유저마다_요청_수_제한을_거쳐서_거절된_유저의_건만_실패로_반환한다() {
+        // given
+        AsyncPointService service = asyncPointService(4, 100, 5_000L,
+            new AdmissionProperties(true, 1L, 1L, 100, 100));
+        given(pointService.getUserPoint(1L)).willReturn(UserPoint.empty(1L));
+        given(pointService.apply(any())).willAnswer(invocation -> {
+            PointOperation operation = invocation.getArgument(0);
+            return new UserPoint(operation.userId(), operation.amount(), 0L);
+        });
+        service.getUserPoint(1L).join();
+        List<PointOperation> operations = List.of(
+            new PointOperation(1L, 10L, TransactionType.CHARGE),
+            new PointOperation(2L, 20L, TransactionType.CHARGE),
+            new PointOperation(1L, 30L, TransactionType.CHARGE));
+
+        // when
+        List<PointOperationResult> results = service.applyBatch(operations).join();
+
+        // then
+        assertThat(results).extracting(PointOperationResult::success).containsExactly(false, true, false);
+        assertThat(results.get(1).point()).isEqualTo(20L);
+        verify(pointService, never()).apply(operations.get(0));
+        verify(pointService, never()).apply(operations.get(2));
+    }
+
+    @Test
+    void 일괄_처리가_제한_시간을_넘기면_TimeoutException_으로_완료하고_시작하지_않은_유저는_실행하지_않는다()
+            throws InterruptedException {
+        // given
+        AsyncPointService service = asyncPointService(1, 10, 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        List<PointOperation> operations = List.of(
+            new PointOperation(1L, 10L, TransactionType.CHARGE),
+            new PointOperation(2L, 20L, TransactionType.CHARGE));
+        given(pointService.apply(operations.get(0))).willAnswer(invocation -> {
+            release.await();
+            finished.countDown();
+            return new UserPoint(1L, 10L, 0L);
+        });
+
+        // when
+        CompletableFuture<List<PointOperationResult>> future = service.applyBatch(operations);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause()).isInstanceOf(TimeoutException.class);
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        service.close();
+        verify(pointService, never()).apply(operations.get(1));
+    }
+
+    @Test
+    void 히스토리_스트림이_제한_시간을_넘기면_TimeoutException_으로_완료하고_더_내보내지_않는다() throws InterruptedException {
+        // given
+        AsyncPointService service = asyncPointService(1, 10, 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch scanned = new CountDownLatch(1);
+        List<Boolean> continued = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Predicate<PointHistory> visitor = invocation.getArgument(2);
+            continued.add(visitor.test(pointHistory(1L)));
+            release.await();
+            continued.add(visitor.test(pointHistory(2L)));
+            scanned.countDown();
+            return null;
+        }).when(pointService).streamHistory(eq(1L), eq(PointHistoryQuery.all()), any());
+        List<PointHistory> visited = new CopyOnWriteArrayList<>();
+
+        // when
+        CompletableFuture<Void> future = service.streamHistory(1L, PointHistoryQuery.all(), visited::add);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause()).isInstanceOf(TimeoutException.class);
+        release.countDown();
+        assertThat(scanned.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(continued).containsExactly(true, false);
+        assertThat(visited).extracting(PointHistory::id).containsExactly(1L);
+    }
+
+    // 짧게 걸리는 요청과 길게 걸리는 요청을 섞어서, 줄을 세우지 않으면 순서가 바뀌게 함
+    private static UserPoint record(List<PointHistory> histories, long amount, TransactionType type)
+            throws InterruptedException {
+        Thread.sleep(amount % 3 == 0 ? 20 : 1);
+        histories.add(new PointHistory(histories.size() + 1, 1L, amount, type, 0L));
+        return new UserPoint(1L, amount, 0L);
+    }
+
+    private static PointHistory pointHistory(long id) {
+        return new PointHistory(id, 1L, 100L, TransactionType.CHARGE, 0L);
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
@@ -14,31 +15,42 @@ import static org.mockito.Mockito.when;
 
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
 import io.hhplus.tdd.point.dto.TransactionType;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.engine.LockPointEngine;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.lock.UserLockProperties;
+import io.hhplus.tdd.point.metrics.PointMetrics;
 import io.hhplus.tdd.point.validate.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class PointServiceTest {
 
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
     @Mock
     private PointRepository pointRepository;
 
     @Mock
     private PointValidator pointValidator;
 
-    @InjectMocks
     private PointService pointService;
 
     private final long userId = 1L;
@@ -46,6 +58,9 @@ class PointServiceTest {
     @BeforeEach
     void setUp() {
         reset(pointRepository, pointValidator);
+        UserLockManager userLockManager = new UserLockManager(new UserLockProperties(16, false, 0L), pointMetrics);
+        pointService = new PointService(pointRepository, pointValidator,
+            new LockPointEngine(pointRepository, pointValidator, userLockManager));
     }
 
     @Test
@@ -101,10 +116,8 @@ class PointServiceTest {
         assertThrows(IllegalArgumentException.class, () -> pointService.chargePoint(userId, amount));
         // validatePointAmountBelowZero 호출 했음을 검증
         verify(pointValidator).validatePointAmountBelowZero(amount);
-        // pointRepository.savePoint 호출하지 않았음을 검증
-        verify(pointRepository, never()).savePoint(anyLong(), anyLong());
-        // pointRepository.savePointHistory 호출하지 않았음을 검증
-        verify(pointRepository, never()).savePointHistory(anyLong(), anyLong(), any());
+        // pointRepository.saveReservedPointChange 호출하지 않았음을 검증
+        verify(pointRepository, never()).saveReservedPointChange(anyLong(), anyLong(), anyLong(), any());
     }
 
     @ParameterizedTest
@@ -113,7 +126,8 @@ class PointServiceTest {
         // given
         UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
         doNothing().when(pointValidator).validatePointAmountBelowZero(amount);
-        given(pointRepository.savePoint(userId, amount)).willReturn(userPoint);
+        given(pointRepository.findUserPointById(userId)).willReturn(UserPoint.empty(userId));
+        given(pointRepository.saveReservedPointChange(userId, amount, amount, TransactionType.CHARGE)).willReturn(userPoint);
 
         // when
         UserPoint chargeUserPoint = pointService.chargePoint(userId, amount);
@@ -121,8 +135,53 @@ class PointServiceTest {
         // then
         assertThat(chargeUserPoint).isEqualTo(userPoint);
         verify(pointValidator).validatePointAmountBelowZero(amount);
-        verify(pointRepository).savePoint(userId, amount);
-        verify(pointRepository).savePointHistory(userId, amount, TransactionType.CHARGE);
+        verify(pointRepository).saveReservedPointChange(userId, amount, amount, TransactionType.CHARGE);
+    }
+
+    @Test
+    void 히스토리_자리를_확보한_뒤_충전_한_건을_저장한다() {
+        // given
+        long amount = 100L;
+        given(pointRepository.findUserPointById(userId)).willReturn(new UserPoint(userId, 500L, 0L));
+
+        // when
+        pointService.chargePoint(userId, amount);
+
+        // then
+        InOrder inOrder = inOrder(pointRepository);
+        inOrder.verify(pointRepository).reservePointHistory();
+        inOrder.verify(pointRepository).saveReservedPointChange(userId, 600L, amount, TransactionType.CHARGE);
+    }
+
+    @Test
+    void 히스토리_자리가_거절되면_포인트를_바꾸지_않는다() {
+        // given
+        long amount = 100L;
+        given(pointRepository.findUserPointById(userId)).willReturn(new UserPoint(userId, 500L, 0L));
+        doThrow(new RejectedExecutionException("포인트 히스토리 쓰기 대기열이 가득 참"))
+            .when(pointRepository).reservePointHistory();
+
+        // when
+        assertThrows(RejectedExecutionException.class, () -> pointService.chargePoint(userId, amount));
+
+        // then
+        verify(pointRepository, never()).saveReservedPointChange(anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void 충전_저장이_실패하면_확보한_히스토리_자리는_저장소에_맡기고_예외를_던진다() {
+        // given
+        long amount = 100L;
+        given(pointRepository.findUserPointById(userId)).willReturn(new UserPoint(userId, 500L, 0L));
+        given(pointRepository.saveReservedPointChange(userId, 600L, amount, TransactionType.CHARGE))
+            .willThrow(new UncheckedIOException("포인트 저널 쓰기 실패", new IOException("disk full")));
+
+        // when
+        assertThrows(UncheckedIOException.class, () -> pointService.chargePoint(userId, amount));
+
+        // then (저장소가 저널에 남기지 못하면 자리를 반납하므로, 엔진이 한 번 더 반납하지 않음)
+        verify(pointRepository).reservePointHistory();
+        verify(pointRepository, never()).cancelPointHistoryReservation();
     }
 
     @ParameterizedTest
@@ -138,10 +197,8 @@ class PointServiceTest {
         verify(pointValidator).validatePointAmountBelowZero(amount);
         // validateTotalPointAmount 호출 했음을 검증
         verify(pointValidator, never()).validateTotalPointAmount(anyLong(), anyLong());
-        // pointRepository.savePoint 호출하지 않았음을 검증
-        verify(pointRepository, never()).savePoint(anyLong(), anyLong());
-        // pointRepository.savePointHistory 호출하지 않았음을 검증
-        verify(pointRepository, never()).savePointHistory(anyLong(), anyLong(), any());
+        // pointRepository.saveReservedPointChange 호출하지 않았음을 검증
+        verify(pointRepository, never()).saveReservedPointChange(anyLong(), anyLong(), anyLong(), any());
     }
 
     @ParameterizedTest
@@ -161,10 +218,8 @@ class PointServiceTest {
         verify(pointValidator).validatePointAmountBelowZero(usePoint);
         // validateTotalPointAmount 호출 했음을 검증
         verify(pointValidator).validateTotalPointAmount(beforePoint, usePoint);
-        // pointRepository.savePoint 호출하지 않았음을 검증
-        verify(pointRepository, never()).savePoint(anyLong(), anyLong());
-        // pointRepository.savePointHistory 호출하지 않았음을 검증
-        verify(pointRepository, never()).savePointHistory(anyLong(), anyLong(), any());
+        // pointRepository.saveReservedPointChange 호출하지 않았음을 검증
+        verify(pointRepository, never()).saveReservedPointChange(anyLong(), anyLong(), anyLong(), any());
     }
 
     @ParameterizedTest
@@ -178,7 +233,8 @@ class PointServiceTest {
         doNothing().when(pointValidator).validateTotalPointAmount(beforePoint, usePoint);
 
         UserPoint afterUserPoint = new UserPoint(userId, beforePoint - usePoint, System.currentTimeMillis());
-        given(pointRepository.savePoint(userId, beforePoint - usePoint)).willReturn(afterUserPoint);
+        given(pointRepository.saveReservedPointChange(userId, beforePoint - usePoint, usePoint, TransactionType.USE))
+            .willReturn(afterUserPoint);
 
         // when
         UserPoint useUserPoint = pointService.usePoint(userId, usePoint);
@@ -186,8 +242,37 @@ class PointServiceTest {
         // then
         assertThat(useUserPoint).isEqualTo(afterUserPoint);
         verify(pointValidator).validatePointAmountBelowZero(usePoint);
-        verify(pointRepository).savePoint(userId, beforePoint - usePoint);
-        verify(pointRepository).savePointHistory(userId, usePoint, TransactionType.USE);
+        verify(pointRepository).saveReservedPointChange(userId, beforePoint - usePoint, usePoint, TransactionType.USE);
+    }
+
+    @Test
+    void 히스토리가_페이지_크기보다_많으면_마지막_항목의_id_를_다음_cursor_로_반환한다() {
+        // given
+        PointHistoryQuery query = PointHistoryQuery.all();
+        List<PointHistory> pointHistories = List.of(
+            new PointHistory(1L, userId, 1L, TransactionType.CHARGE, 1L),
+            new PointHistory(2L, userId, 1L, TransactionType.CHARGE, 2L),
+            new PointHistory(3L, userId, 1L, TransactionType.USE, 3L));
+        given(pointRepository.findPointHistoryById(userId, query, 3)).willReturn(pointHistories);
+        given(pointRepository.findPointHistoryById(userId, query, 4)).willReturn(pointHistories);
+
+        // when
+        PointHistoryPage firstPage = pointService.getHistory(userId, query, 2);
+        PointHistoryPage lastPage = pointService.getHistory(userId, query, 3);
+
+        // then
+        assertThat(firstPage.histories()).extracting(PointHistory::id).containsExactly(1L, 2L);
+        assertThat(firstPage.nextCursor()).isEqualTo(2L);
+        assertThat(lastPage.histories()).hasSize(3);
+        assertThat(lastPage.nextCursor()).isNull();
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @ValueSource(ints = {0, PointService.MAX_HISTORY_PAGE_SIZE + 1})
+    void 페이지_크기가_범위를_벗어나면_히스토리_조회_실패(int size) {
+        // given, when, then
+        assertThrows(IllegalArgumentException.class, () -> {
+            pointService.getHistory(userId, PointHistoryQuery.all(), size);
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class OffHeapUserPointStoreTest {
+
+    private OffHeapUserPointStore store(int initialCapacity) {
+        return new OffHeapUserPointStore(new UserPointStoreProperties("off-heap", initialCapacity));
+    }
+
+    @Test
+    void 저장한_포인트를_조회하고_없는_유저는_0_포인트로_조회한다() {
+        // given
+        OffHeapUserPointStore store = store(16);
+
+        // when
+        UserPoint saved = store.insertOrUpdate(1L, 100L);
+        store.insertOrUpdate(Long.MIN_VALUE, 7L);
+
+        // then
+        assertThat(store.selectById(1L)).isEqualTo(saved);
+        assertThat(store.selectById(Long.MIN_VALUE).point()).isEqualTo(7L);
+        assertThat(store.selectById(2L).point()).isZero();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_유저에_다시_저장하면_덮어쓴다() {
+        // given
+        OffHeapUserPointStore store = store(16);
+        store.insertOrUpdate(1L, 100L);
+
+        // when
+        store.insertOrUpdate(1L, 30L);
+
+        // then
+        assertThat(store.selectById(1L).point()).isEqualTo(30L);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 슬롯이_늘어나도_저장한_포인트를_모두_유지한다() {
+        // given
+        OffHeapUserPointStore store = store(4);
+        long capacityBytes = store.capacityBytes();
+
+        // when
+        for (long id = 1; id <= 10_000; id++) {
+            store.insertOrUpdate(id, id * 10);
+        }
+
+        // then
+        assertThat(store.capacityBytes()).isGreaterThan(capacityBytes);
+        assertThat(store.size()).isEqualTo(10_000);
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(store.selectById(id).point()).isEqualTo(id * 10);
+        }
+    }
+
+    @Test
+    void 여러_스레드가_동시에_저장하고_조회해도_저장한_값이_모두_남는다() throws InterruptedException {
+        // given
+        OffHeapUserPointStore store = store(4);
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long base = t * 100_000L;
+            executorService.execute(() -> {
+                for (long id = base + 1; id <= base + 5_000; id++) {
+                    store.insertOrUpdate(id, id);
+                    store.selectById(id - 1);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(store.size()).isEqualTo(threadCount * 5_000);
+        for (int t = 0; t < threadCount; t++) {
+            long id = t * 100_000L + 5_000;
+            assertThat(store.selectById(id).point()).isEqualTo(id);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import org.junit.jupiter.api.Test;
+
+class UserPointVersionsTest {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private final UserPointVersions userPointVersions = new UserPointVersions(pointHistoryIndex);
+
+    private void write(PointHistory pointHistory) {
+        pointHistoryIndex.append(pointHistory);
+        userPointVersions.apply(pointHistory);
+    }
+
+    @Test
+    void 히스토리를_반영할_때마다_마지막_히스토리_id_를_버전으로_새_포인트를_만든다() {
+        // given
+        write(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 10L));
+        write(new PointHistory(2L, 2L, 500L, TransactionType.CHARGE, 20L));
+        PointVersion before = userPointVersions.get(1L);
+
+        // when
+        write(new PointHistory(3L, 1L, 30L, TransactionType.USE, 30L));
+
+        // then
+        assertThat(before).isEqualTo(new PointVersion(1L, 1L, 100L, 10L, 100L, 0L, 1L));
+        assertThat(userPointVersions.get(1L)).isEqualTo(new PointVersion(1L, 3L, 70L, 30L, 100L, 30L, 2L));
+        assertThat(userPointVersions.get(2L)).isEqualTo(new PointVersion(2L, 2L, 500L, 20L, 500L, 0L, 1L));
+        assertThat(userPointVersions.get(3L)).isEqualTo(PointVersion.empty(3L));
+    }
+
+    @Test
+    void 버전이_없는_유저는_히스토리_저장소에서_계산하고_이미_반영된_히스토리는_다시_더하지_않는다() {
+        // given (재시작 후 복구처럼 저장소에만 들어간 히스토리)
+        pointHistoryIndex.append(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 10L));
+        pointHistoryIndex.append(new PointHistory(2L, 1L, 40L, TransactionType.USE, 20L));
+
+        // when
+        userPointVersions.apply(new PointHistory(2L, 1L, 40L, TransactionType.USE, 20L));
+        write(new PointHistory(3L, 1L, 10L, TransactionType.CHARGE, 30L));
+        userPointVersions.apply(new PointHistory(3L, 1L, 10L, TransactionType.CHARGE, 30L));
+
+        // then
+        assertThat(userPointVersions.get(1L)).isEqualTo(new PointVersion(1L, 3L, 70L, 30L, 110L, 40L, 3L));
+    }
+
+    @Test
+    void 다시_계산하면_히스토리_저장소의_합으로_집계를_교체한다() {
+        // given (집계에 반영되지 않고 저장소에만 들어간 히스토리)
+        write(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 10L));
+        pointHistoryIndex.append(new PointHistory(2L, 1L, 40L, TransactionType.USE, 20L));
+        write(new PointHistory(3L, 2L, 500L, TransactionType.CHARGE, 30L));
+
+        // when
+        int rebuilt = userPointVersions.rebuildAll();
+
+        // then
+        assertThat(rebuilt).isEqualTo(2);
+        assertThat(userPointVersions.get(1L)).isEqualTo(new PointVersion(1L, 2L, 60L, 20L, 100L, 40L, 2L));
+        assertThat(userPointVersions.get(2L)).isEqualTo(new PointVersion(2L, 3L, 500L, 30L, 500L, 0L, 1L));
+    }
+}